@@ -1,26 +1,57 @@
 package base;
 
+import io.qameta.allure.Allure;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.openqa.selenium.WebDriver;
+import utils.CommandBaseline;
+import utils.CommandMetrics;
+import utils.PerformanceBudget;
 import utils.PropertyReader;
+import utils.SleepClock;
+import utils.TrafficArchive;
 import utils.WaitUtils;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+
 public abstract class BaseTest {
 
     protected WebDriver driver;
     protected String baseUrl;
     protected WaitUtils wait;
 
+    // "<test class>.<method>" and start time, for the command-count gate
+    private String testId;
+    private long testStartNanos;
+
     @BeforeEach
-    public void setUp() {
+    public void setUp(TestInfo testInfo) {
+        testId = testInfo.getTestClass().map(Class::getName).orElse("unknown")
+                + "." + testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName());
+
+        // local stand-in instead of the physical controller → it overrides baseUrl
+        if (StandInServer.isEnabled()) {
+            StandInServer.start();
+        }
         baseUrl = PropertyReader.get("baseUrl");
 
         DriverFactory.initializeDriver();
         driver = DriverFactory.getDriver();
 
+        // a pooled driver keeps its listener → start counting from zero for this test
+        CommandMetrics metrics = CommandMetrics.of(driver);
+        if (metrics != null) {
+            metrics.reset();
+        }
+        // ...and replay recorded backend traffic from its first response
+        TrafficArchive.reset(driver);
+
         wait = new WaitUtils(driver);
         driver.get(baseUrl);
+
+        testStartNanos = System.nanoTime();
     }
 
     //Demo only to slow down automation
@@ -29,7 +60,7 @@ public abstract class BaseTest {
     protected void demoPause(long millis) {
         if (DEMO_MODE) {
             try {
-                Thread.sleep(millis);
+                SleepClock.sleep(Duration.ofMillis(millis));
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             }
@@ -40,6 +71,25 @@ public abstract class BaseTest {
 
     @AfterEach
     public void tearDown() {
+        long wallMs = (System.nanoTime() - testStartNanos) / 1_000_000;
+
+        CommandMetrics metrics = CommandMetrics.of(driver);
+        if (metrics != null) {
+            String summary = metrics.summary();
+            System.out.println("\n" + summary);
+            Allure.addAttachment("WebDriver command metrics", "text/plain", summary, ".txt");
+        }
+
         DriverFactory.quitDriver();
+
+        // after quitting, so a failing gate never leaks a browser;
+        // the budget check always runs, so this thread never carries breaches into the next test
+        try {
+            if (metrics != null) {
+                CommandBaseline.check(testId, metrics.totalCommands(), wallMs);
+            }
+        } finally {
+            PerformanceBudget.verify(testId);
+        }
     }
 }
@@ -5,7 +5,12 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.chromium.ChromiumDriver;
+import utils.CommandBaseline;
+import utils.CommandMetrics;
+import utils.DownloadUtils;
+import utils.PagePerformance;
 import utils.PropertyReader;
+import utils.TrafficArchive;
 
 import java.io.File;
 import java.util.HashMap;
@@ -15,6 +20,9 @@ public class DriverFactory {
 
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
+    // WebDriverManager resolution is only needed once per JVM
+    private static volatile boolean chromedriverResolved = false;
+
     private DriverFactory() {
         // Prevent instantiation
     }
@@ -24,21 +32,35 @@ public class DriverFactory {
     }
 
     public static void initializeDriver() {
+        if (DriverPool.isEnabled()) {
+            driver.set(DriverPool.lease());
+            return;
+        }
+
+        driver.set(createDriver(DownloadUtils.getDownloadDir()));
+    }
+
+    /**
+     * Launch a new browser that downloads into the given folder.
+     * Does NOT bind it to the current thread (see initializeDriver / DriverPool).
+     */
+    static WebDriver createDriver(File downloadsDir) {
 
         String browser = PropertyReader.get("browser").toLowerCase().trim();
         boolean headless = Boolean.parseBoolean(PropertyReader.get("headless"));
 
-        // --- Use a FIXED folder outside OneDrive to avoid Chrome overrides ---
-        String downloadPath = "C:\\SeleniumDownloads";
-        File downloadsDir = new File(downloadPath);
+        // --- Use a FIXED folder outside OneDrive to avoid Chrome overrides (one per worker in parallel runs) ---
         if (!downloadsDir.exists()) {
             downloadsDir.mkdirs();
         }
+        String downloadPath = downloadsDir.getAbsolutePath();
+
+        WebDriver created;
 
         switch (browser) {
 
             case "chrome":
-                WebDriverManager.chromedriver().setup();
+                resolveChromedriver();
 
                 // --- Chrome Preferences ---
                 Map<String, Object> prefs = new HashMap<>();
@@ -72,13 +94,25 @@ public class DriverFactory {
                 options.addArguments("--no-default-browser-check");
                 options.addArguments("--no-first-run");
 
+                // Keep background tabs loading at full speed (sharded Module Overview snapshots)
+                options.addArguments("--disable-background-timer-throttling");
+                options.addArguments("--disable-backgrounding-occluded-windows");
+                options.addArguments("--disable-renderer-backgrounding");
+
                 if (headless) {
                     options.addArguments("--headless=new");
                 }
 
                 // Create ChromeDriver instance
                 ChromeDriver chrome = new ChromeDriver(options);
-                driver.set(chrome);
+
+                // Optional record / replay of the app's backend calls (traffic.mode), on the raw driver: needs DevTools
+                if (TrafficArchive.isActive()) {
+                    TrafficArchive.attach(chrome);
+                }
+
+                // Page-load performance collector in every document (perf.capture), read by the page objects
+                PagePerformance.install(chrome);
 
                 // CRITICAL FIX — FORCE Chrome to download without prompts, bypassing OneDrive entirely
                 ((ChromiumDriver) chrome).executeCdpCommand(
@@ -89,6 +123,7 @@ public class DriverFactory {
                         )
                 );
 
+                created = chrome;
                 break;
 
             default:
@@ -96,12 +131,29 @@ public class DriverFactory {
         }
 
         // Maximize browser
-        getDriver().manage().window().maximize();
+        created.manage().window().maximize();
+
+        // Optional per-command metrics (driver.instrument=true, or the command-count gate is on)
+        if (CommandMetrics.isEnabled() || CommandBaseline.isActive()) {
+            created = CommandMetrics.instrument(created);
+        }
+        return created;
+    }
+
+    private static synchronized void resolveChromedriver() {
+        if (!chromedriverResolved) {
+            WebDriverManager.chromedriver().setup();
+            chromedriverResolved = true;
+        }
     }
 
     public static void quitDriver() {
         if (driver.get() != null) {
-            getDriver().quit();
+            if (DriverPool.isEnabled()) {
+                DriverPool.release(getDriver());
+            } else {
+                getDriver().quit();
+            }
             driver.remove();
         }
     }
@@ -0,0 +1,156 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.DownloadUtils;
+import utils.PropertyReader;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps warm browser sessions between tests instead of quitting after every test.
+ *
+ * Enabled with driverPool.enabled=true. A session is reset when it is returned (extra tabs closed,
+ * storage and cookies cleared, parked on about:blank), health-checked when it is leased, and quit after
+ * driverPool.maxReuse leases.
+ */
+final class DriverPool {
+
+    private static final int DEFAULT_MAX_REUSE = 20;
+
+    private static final ConcurrentLinkedDeque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+    private static final Map<WebDriver, PooledSession> leased = new ConcurrentHashMap<>();
+    private static final AtomicInteger sessionCounter = new AtomicInteger();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown));
+    }
+
+    private DriverPool() {
+        // Prevent instantiation
+    }
+
+    private static final class PooledSession {
+        final WebDriver driver;
+        final File downloadDir;
+        int leases;
+
+        PooledSession(WebDriver driver, File downloadDir) {
+            this.driver = driver;
+            this.downloadDir = downloadDir;
+        }
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertyReader.get("driverPool.enabled"));
+    }
+
+    private static int maxReuse() {
+        String configured = PropertyReader.get("driverPool.maxReuse");
+        return configured == null || configured.isBlank() ? DEFAULT_MAX_REUSE : Integer.parseInt(configured.trim());
+    }
+
+    // =========================
+    // Lease / Release
+    // =========================
+
+    static WebDriver lease() {
+        PooledSession session;
+
+        while ((session = idle.pollFirst()) != null) {
+            if (isHealthy(session.driver)) {
+                break;
+            }
+            System.out.println("⚠ Pooled browser failed health check — recycling it.");
+            quietlyQuit(session.driver);
+        }
+
+        if (session == null) {
+            File downloadDir = DownloadUtils.newDownloadDir("session-" + sessionCounter.incrementAndGet());
+            session = new PooledSession(DriverFactory.createDriver(downloadDir), downloadDir);
+            System.out.println("➡ Started new pooled browser session.");
+        } else {
+            System.out.println("✔ Reusing pooled browser session (lease " + (session.leases + 1) + ").");
+        }
+
+        // downloads of this test land in the session's folder, whichever thread leased it
+        DownloadUtils.bindDownloadDir(session.downloadDir);
+
+        leased.put(session.driver, session);
+        return session.driver;
+    }
+
+    static void release(WebDriver driver) {
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            quietlyQuit(driver);
+            return;
+        }
+
+        session.leases++;
+
+        if (session.leases >= maxReuse()) {
+            System.out.println("➡ Pooled browser reached " + session.leases + " leases — quitting it.");
+            quietlyQuit(driver);
+            return;
+        }
+
+        try {
+            reset(driver);
+            idle.addLast(session);
+        } catch (Exception e) {
+            System.out.println("⚠ Could not reset pooled browser (" + e.getMessage() + ") — quitting it.");
+            quietlyQuit(driver);
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static void reset(WebDriver driver) {
+        // close every tab except the first
+        ArrayList<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i));
+            driver.close();
+        }
+        driver.switchTo().window(handles.get(0));
+
+        // storage is per origin, so clear it while still on the app
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+
+        // leave the app: the next test loads baseUrl itself (BaseTest.setUp), after resetting its metrics and replay
+        driver.get("about:blank");
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return Long.valueOf(1).equals(((JavascriptExecutor) driver).executeScript("return 1;"));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignored) {}
+    }
+
+    private static void shutdown() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            quietlyQuit(session.driver);
+        }
+        leased.keySet().forEach(DriverPool::quietlyQuit);
+    }
+}
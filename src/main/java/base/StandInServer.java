@@ -0,0 +1,362 @@
+package base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import utils.DataUtils;
+import utils.PropertyReader;
+import utils.XlsxWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Local stand-in for the smoke damper controller UI, so the suite can run without the physical panel.
+ *
+ * A JDK HttpServer serves a small single-page app (src/main/resources/standin) that renders the same
+ * DOM the page objects expect, backed by a JSON API over a synthetic fleet. Enabled with
+ * standin.enabled=true; BaseTest then starts it once per JVM and points baseUrl at it.
+ *
+ * standin.fleetSize  → number of modules (default 250)
+ * standin.seed       → fleet seed for DataUtils (default 1)
+ * standin.latencyMs  → artificial delay per API call (default 0)
+ * standin.port       → fixed port (default 0 = any free port)
+ */
+public final class StandInServer {
+
+    private static final String RESOURCES = "standin/";
+    private static final int DEFAULT_FLEET_SIZE = 250;
+    private static final DateTimeFormatter EVENT_TIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final DateTimeFormatter EXPORT_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static HttpServer server;
+    private static String baseUrl;
+
+    private static long seed;
+    private static int fleetSize;
+    private static DataUtils.FleetOracle oracle;
+    // filter query → matching modules; the fleet is streamed, so totals are worth remembering
+    private static final Map<String, Long> totals = new ConcurrentHashMap<>();
+
+    private static List<Map<String, Object>> events;
+    private static List<Map<String, Object>> alerts;
+    private static Duration latency;
+
+    private StandInServer() {
+        // Prevent instantiation
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertyReader.get("standin.enabled"));
+    }
+
+    /**
+     * Start the server (once per JVM) and make it the baseUrl of every test.
+     * @return the app URL, e.g. http://127.0.0.1:53411/main
+     */
+    public static synchronized String start() {
+        if (server == null) {
+            seed = intProperty("standin.seed", 1);
+            fleetSize = intProperty("standin.fleetSize", DEFAULT_FLEET_SIZE);
+            oracle = DataUtils.oracle(seed, fleetSize, DataUtils.Profile.DEFAULT);
+            events = generateEvents();
+            alerts = generateAlerts();
+            latency = Duration.ofMillis(intProperty("standin.latencyMs", 0));
+
+            // headers and body go out as separate writes → without TCP_NODELAY each response waits ~40 ms on delayed ACK
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+
+            try {
+                server = HttpServer.create(
+                        new InetSocketAddress(InetAddress.getLoopbackAddress(), intProperty("standin.port", 0)), 0);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not start the stand-in server: " + e.getMessage(), e);
+            }
+
+            server.createContext("/", StandInServer::handle);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(StandInServer::stop));
+
+            baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/main";
+            System.out.println("✔ Stand-in controller running at " + baseUrl + " with " + fleetSize + " modules (seed " + seed + ").");
+        }
+
+        System.setProperty("baseUrl", baseUrl);
+        return baseUrl;
+    }
+
+    /** Expected validator results for the fleet being served (null until started). */
+    public static synchronized DataUtils.FleetOracle oracle() {
+        return oracle;
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String configured = PropertyReader.get(key);
+        return configured == null || configured.isBlank() ? defaultValue : Integer.parseInt(configured.trim());
+    }
+
+    // =========================
+    // Routing
+    // =========================
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if (path.startsWith("/api/")) {
+                simulateLatency();
+            }
+
+            if (path.equals("/") || path.equals("/main") || path.startsWith("/main/")) {
+                sendResource(exchange, "index.html", "text/html; charset=utf-8");
+            } else if (path.equals("/static/app.js")) {
+                sendResource(exchange, "app.js", "application/javascript; charset=utf-8");
+            } else if (path.startsWith("/assets/icons/") && path.endsWith(".svg")) {
+                sendIcon(exchange, path.substring("/assets/icons/".length(), path.length() - 4));
+            } else if (path.equals("/api/summary")) {
+                sendJson(exchange, summary());
+            } else if (path.equals("/api/modules")) {
+                sendJson(exchange, modulePage(query));
+            } else if (path.equals("/api/modules/export")) {
+                sendExport(exchange, query);
+            } else if (path.equals("/api/events")) {
+                sendJson(exchange, eventList(query));
+            } else if (path.equals("/api/alerts")) {
+                sendJson(exchange, alerts);
+            } else {
+                send(exchange, 404, "text/plain", "Not found: ".concat(path).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (RuntimeException e) {
+            System.out.println("⚠ Stand-in request failed: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static void simulateLatency() {
+        if (latency.isZero()) return;
+        // server side, not test idle time → not through SleepClock, so its report only shows test-side sleeps
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    // =========================
+    // API
+    // =========================
+
+    private static Stream<DataUtils.Module> fleet() {
+        return DataUtils.fleet(seed, fleetSize);
+    }
+
+    private static Map<String, Object> summary() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("total", oracle.totalModules());
+        json.put("online", oracle.networkCounts().get("online"));
+        json.put("offline", oracle.networkCounts().get("offline"));
+        json.put("sample", fleet().limit(5).map(StandInServer::toJson).toList());
+        json.put("latestEvents", events.subList(0, Math.min(5, events.size())));
+        return json;
+    }
+
+    // ?page=0&size=25&network=online&io=faulty&commission=commissioned
+    private static Map<String, Object> modulePage(Map<String, String> query) {
+        Predicate<DataUtils.Module> filter = moduleFilter(query);
+        String filterKey = query.getOrDefault("network", "") + "|" + query.getOrDefault("io", "")
+                + "|" + query.getOrDefault("commission", "");
+        long total = totals.computeIfAbsent(filterKey, k -> fleet().filter(filter).count());
+
+        int size = Math.max(1, Integer.parseInt(query.getOrDefault("size", "25")));
+        int page = Math.max(0, Integer.parseInt(query.getOrDefault("page", "0")));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("total", total);
+        json.put("page", page);
+        json.put("size", size);
+        json.put("rows", fleet().filter(filter).skip((long) page * size).limit(size).map(StandInServer::toJson).toList());
+        return json;
+    }
+
+    private static Predicate<DataUtils.Module> moduleFilter(Map<String, String> query) {
+        String network = query.getOrDefault("network", "");
+        String io = query.getOrDefault("io", "");
+        String commission = query.getOrDefault("commission", "");
+
+        return m -> (network.isEmpty() || m.network().equals(network))
+                && (io.isEmpty() || m.io().equals(io))
+                && (commission.isEmpty() || m.commissioned() == commission.equals("commissioned"));
+    }
+
+    private static List<Map<String, Object>> eventList(Map<String, String> query) {
+        String search = query.getOrDefault("search", "").trim().toLowerCase();
+        boolean todayOnly = Boolean.parseBoolean(query.get("today"));
+
+        return events.stream()
+                .filter(e -> search.isEmpty()
+                        || String.valueOf(e.get("module")).toLowerCase().contains(search)
+                        || String.valueOf(e.get("ip")).contains(search))
+                .filter(e -> !todayOnly || Boolean.TRUE.equals(e.get("today")))
+                .toList();
+    }
+
+    private static void sendExport(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String fileName = "Modules_" + LocalDateTime.now().format(EXPORT_STAMP) + ".xlsx";
+
+        exchange.getResponseHeaders().set("Content-Type",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        exchange.getResponseHeaders().set("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            XlsxWriter.write(out, "Modules",
+                    List.of("Module Name", "Module IP", "Network Status", "I/O Status", "Last Seen", "Commission"),
+                    fleet().filter(moduleFilter(query)).map(StandInServer::toExportRow).iterator());
+        }
+    }
+
+    // =========================
+    // Responses
+    // =========================
+
+    private static void sendResource(HttpExchange exchange, String name, String contentType) throws IOException {
+        try (InputStream in = StandInServer.class.getClassLoader().getResourceAsStream(RESOURCES + name)) {
+            if (in == null) {
+                send(exchange, 404, "text/plain", ("Missing resource " + name).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, contentType, in.readAllBytes());
+        }
+    }
+
+    // status icons: the file name is what the page objects look for in img.src (online, faulty, ...)
+    private static void sendIcon(HttpExchange exchange, String name) throws IOException {
+        String color = switch (name) {
+            case "online", "healthy" -> "#2e7d32";
+            case "offline", "faulty" -> "#c62828";
+            case "degraded" -> "#ef6c00";
+            default -> "#9e9e9e";
+        };
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"12\" height=\"12\">"
+                + "<circle cx=\"6\" cy=\"6\" r=\"5\" fill=\"" + color + "\"/></svg>";
+        send(exchange, 200, "image/svg+xml", svg.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendJson(HttpExchange exchange, Object body) throws IOException {
+        send(exchange, 200, "application/json", JSON.writeValueAsBytes(body));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // =========================
+    // Synthetic data
+    // =========================
+
+    private static Map<String, Object> toJson(DataUtils.Module m) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", m.name());
+        json.put("ip", m.ip());
+        json.put("network", m.network());
+        json.put("io", m.io());
+        json.put("commissioned", m.commissioned());
+        json.put("lastSeen", m.lastSeen());
+        return json;
+    }
+
+    private static List<String> toExportRow(DataUtils.Module m) {
+        return List.of(m.name(), m.ip(), capitalize(m.network()), capitalize(m.io()), m.lastSeen(),
+                m.commissioned() ? "Commissioned" : "Uncommissioned");
+    }
+
+    // the first modules of the fleet, two events each, one every 17 minutes going back from now
+    private static List<Map<String, Object>> generateEvents() {
+        List<DataUtils.Module> modules = fleet().limit(100).toList();
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, Object>> list = new ArrayList<>();
+
+        for (int i = 0; i < modules.size() * 2; i++) {
+            DataUtils.Module module = modules.get(i % modules.size());
+            LocalDateTime time = now.minusMinutes(17L * i);
+
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("time", time.format(EVENT_TIME));
+            event.put("today", time.toLocalDate().equals(now.toLocalDate()));
+            event.put("module", module.name());
+            event.put("ip", module.ip());
+            event.put("message", module.network().equals("offline") ? "Module went offline" : "Heartbeat received");
+            list.add(event);
+        }
+        return list;
+    }
+
+    private static List<Map<String, Object>> generateAlerts() {
+        return fleet()
+                .filter(m -> m.io().equals("faulty"))
+                .limit(200)
+                .map(m -> {
+                    Map<String, Object> alert = new LinkedHashMap<>();
+                    alert.put("module", m.name());
+                    alert.put("ip", m.ip());
+                    alert.put("severity", m.network().equals("offline") ? "Critical" : "Warning");
+                    alert.put("message", "I/O fault reported");
+                    return alert;
+                })
+                .toList();
+    }
+
+    private static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
@@ -2,6 +2,7 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import utils.PagePerformance;
 import utils.UIHelpers;
 import utils.WaitUtils;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -48,8 +49,10 @@ public class AlertsPage {
                     ExpectedConditions.visibilityOfElementLocated(pageHeader),
                     ExpectedConditions.visibilityOfElementLocated(alertsTable)
             ));
+            wait.waitForAngularStable();
 
             System.out.println("✔ Alerts page loaded successfully.");
+            PagePerformance.capture(driver, "Alerts");
 
         } catch (Exception e) {
             System.out.println(" FAILED: Alerts page did NOT load properly.");
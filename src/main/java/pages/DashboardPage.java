@@ -7,6 +7,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.PagePerformance;
 import utils.UIHelpers;
 import utils.WaitUtils;
 
@@ -38,7 +39,9 @@ public class DashboardPage extends BaseTest {
     private void verifyDashboardLoaded() {
         try {
             wait.waitForVisible(dashboardMainHeader);
+            wait.waitForAngularStable();
             System.out.println("✔ Dashboard page loaded successfully.");
+            PagePerformance.capture(driver, "Dashboard");
         } catch (Exception e) {
             System.out.println(" ERROR: Dashboard page did not load properly. Header not found.");
             throw e;
@@ -59,7 +62,7 @@ public class DashboardPage extends BaseTest {
             WebElement btn = wait.waitForClickable(viewAllModulesButton);
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", btn);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
 
@@ -111,7 +114,7 @@ public class DashboardPage extends BaseTest {
             WebElement btn = wait.waitForClickable(viewDeviceListButton);
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", btn);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
 
@@ -2,6 +2,7 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import utils.PagePerformance;
 import utils.WaitUtils;
 
 public class EventLogsPage {
@@ -10,8 +11,7 @@ public class EventLogsPage {
     private WaitUtils wait;
 
     public EventLogsPage(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WaitUtils(driver);
+        this(driver, new WaitUtils(driver));
     }
 
     // =============================
@@ -47,7 +47,9 @@ public class EventLogsPage {
     private void verifyEventLogsPage() {
         try {
             wait.waitForVisible(pageHeader);
+            wait.waitForAngularStable();
             System.out.println("✔ Event Logs page opened successfully.");
+            PagePerformance.capture(driver, "Event Logs");
         } catch (Exception e) {
             System.out.println(" ERROR: Event Logs page did NOT load correctly.");
             throw e;
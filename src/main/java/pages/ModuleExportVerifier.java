@@ -0,0 +1,190 @@
+package pages;
+
+import utils.LastSeenParser;
+import utils.PropertyReader;
+import utils.XlsxStreamReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a Modules*.xlsx export with the Module Overview table, row by row.
+ *
+ * The workbook is streamed (see {@link XlsxStreamReader}); each export row is matched to the table
+ * by module name and removed from the lookup once seen, so memory is bounded by the snapshot itself.
+ * Only rows that differ end up in the report.
+ *
+ * Last Seen is relative text and keeps moving between the table walk and the export, so it is compared as
+ * an age (see {@link LastSeenParser}): the two may be lastSeen.exportToleranceSeconds apart, beyond the display precision.
+ *
+ * An export without one of the compared columns is a mismatch in itself, not a column that is skipped.
+ */
+public final class ModuleExportVerifier {
+
+    private static final int DEFAULT_LAST_SEEN_TOLERANCE_SECONDS = 300;
+
+    // Export column → label in the report, accepted header texts (normalised); a header must equal one of them
+    private enum Column {
+        NAME("Module Name", "module name", "name"),
+        MODULE_IP("Module IP", "module ip", "ip", "ip address"),
+        NETWORK("Network Status", "network status", "network"),
+        IO("I/O Status", "i/o status", "io status", "i/o", "io"),
+        LAST_SEEN("Last Seen", "last seen");
+
+        final String label;
+        final List<String> headers;
+
+        Column(String label, String... headers) {
+            this.label = label;
+            this.headers = List.of(headers);
+        }
+    }
+
+    private ModuleExportVerifier() {
+        // Prevent instantiation
+    }
+
+    public record Result(int exportRows, int tableRows, List<String> mismatches) {
+
+        public boolean matches() {
+            return mismatches.isEmpty();
+        }
+
+        public void print() {
+            System.out.println(" Export rows = " + exportRows + " | Table rows = " + tableRows);
+
+            if (mismatches.isEmpty()) {
+                System.out.println("✔ Export matches the Module Overview table.");
+                return;
+            }
+
+            System.out.println(" " + mismatches.size() + " mismatching row(s):");
+            mismatches.forEach(m -> System.out.println("   MISMATCH → " + m));
+        }
+    }
+
+    public static Result verify(File xlsx, ModuleTableSnapshot snapshot) throws IOException {
+        Map<String, ModuleRow> unmatched = new LinkedHashMap<>();
+        for (ModuleRow row : snapshot.rows()) {
+            unmatched.put(normalise(row.name()), row);
+        }
+
+        List<String> mismatches = new ArrayList<>();
+        Map<Column, Integer> columns = new HashMap<>();
+        int[] exportRows = {0};
+
+        XlsxStreamReader.forEachRow(xlsx, cells -> {
+            if (columns.isEmpty()) {
+                locateColumns(cells, columns);
+                if (!columns.containsKey(Column.NAME)) {
+                    throw new IllegalStateException("Export has no module name column. Header: " + cells);
+                }
+                for (Column column : Column.values()) {
+                    if (!columns.containsKey(column)) {
+                        mismatches.add("Export has no " + column.label + " column (header: " + cells + ")");
+                    }
+                }
+                return;
+            }
+
+            String name = cell(cells, columns.get(Column.NAME));
+            if (name.isEmpty()) return;   // trailing blank rows
+
+            exportRows[0]++;
+            ModuleRow uiRow = unmatched.remove(normalise(name));
+
+            if (uiRow == null) {
+                mismatches.add("'" + name + "' is in the export but not in the table");
+                return;
+            }
+
+            List<String> diffs = new ArrayList<>();
+            compare(diffs, Column.MODULE_IP.label, cells, columns.get(Column.MODULE_IP), uiRow.moduleIp());
+            compare(diffs, Column.NETWORK.label, cells, columns.get(Column.NETWORK), uiRow.networkCell());
+            compare(diffs, Column.IO.label, cells, columns.get(Column.IO), uiRow.ioText());
+            compareLastSeen(diffs, cells, columns.get(Column.LAST_SEEN), uiRow.lastSeen());
+
+            if (!diffs.isEmpty()) {
+                mismatches.add("'" + name + "' → " + String.join("; ", diffs));
+            }
+        });
+
+        for (ModuleRow missing : unmatched.values()) {
+            mismatches.add("'" + missing.name() + "' is in the table (" + missing.label() + ") but not in the export");
+        }
+
+        return new Result(exportRows[0], snapshot.size(), mismatches);
+    }
+
+    private static void locateColumns(List<String> header, Map<Column, Integer> columns) {
+        for (Column column : Column.values()) {
+            for (int i = 0; i < header.size() && !columns.containsKey(column); i++) {
+                if (columns.containsValue(i)) continue;
+
+                if (column.headers.contains(normalise(header.get(i)).replaceAll(":$", ""))) {
+                    columns.put(column, i);
+                }
+            }
+        }
+    }
+
+    private static void compare(List<String> diffs, String label, List<String> cells, Integer column, String uiValue) {
+        if (column == null) return;
+
+        String exported = cell(cells, column);
+        if (!normalise(exported).equals(normalise(uiValue))) {
+            diffs.add(label + " export='" + exported + "' table='" + uiValue + "'");
+        }
+    }
+
+    // ages, not texts: "5 minutes ago" in the table may well be "7 minutes ago" in the export
+    private static void compareLastSeen(List<String> diffs, List<String> cells, Integer column, String uiValue) {
+        if (column == null) return;
+
+        String exported = cell(cells, column);
+        Duration exportedAge = LastSeenParser.parse(exported);
+        Duration uiAge = LastSeenParser.parse(uiValue);
+
+        if (exportedAge == null || uiAge == null) {
+            compare(diffs, "Last Seen", cells, column, uiValue);
+            return;
+        }
+
+        // "5 minutes ago" means 5 to 6 minutes: the gap is between the end of the younger and the older age
+        Duration younger = exportedAge.compareTo(uiAge) < 0 ? exportedAge : uiAge;
+        Duration older = exportedAge.compareTo(uiAge) < 0 ? uiAge : exportedAge;
+        Duration gap = older.minus(younger.plus(precision(younger)));
+
+        if (gap.compareTo(lastSeenTolerance()) > 0) {
+            diffs.add("Last Seen export='" + exported + "' table='" + uiValue + "' (" + gap.toMinutes()
+                    + " min apart, tolerance " + lastSeenTolerance().toMinutes() + " min)");
+        }
+    }
+
+    // the UI rounds down to minutes below an hour, to hours below a day, to days beyond
+    private static Duration precision(Duration age) {
+        if (age.compareTo(Duration.ofHours(1)) < 0) return Duration.ofMinutes(1);
+        if (age.compareTo(Duration.ofDays(1)) < 0) return Duration.ofHours(1);
+        return Duration.ofDays(1);
+    }
+
+    private static Duration lastSeenTolerance() {
+        String configured = PropertyReader.get("lastSeen.exportToleranceSeconds");
+        return Duration.ofSeconds(configured == null || configured.isBlank()
+                ? DEFAULT_LAST_SEEN_TOLERANCE_SECONDS : Integer.parseInt(configured.trim()));
+    }
+
+    private static String cell(List<String> cells, Integer column) {
+        return column == null || column >= cells.size() ? "" : cells.get(column).trim();
+    }
+
+    private static String normalise(String value) {
+        return value == null ? "" : value.replaceAll("\\s+", " ").trim().toLowerCase();
+    }
+}
@@ -6,17 +6,31 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.PagePerformance;
+import utils.PageTransitionWatcher;
+import utils.PropertyReader;
+import utils.RetryPolicy;
 import utils.UIHelpers;
 import utils.WaitUtils;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class ModuleOverviewPage extends BaseTest {
 
     private WebDriver driver;
     private WaitUtils wait;
     private UIHelpers ui;
+    private final RetryPolicy retry = RetryPolicy.standard();
+
+    // filter state lives in this tab only, so sharded snapshots fall back to one tab while set
+    private boolean filtersApplied = false;
 
     // -----------------------------
     // Constructors
@@ -29,6 +43,7 @@ public class ModuleOverviewPage extends BaseTest {
         this.ui = new UIHelpers(driver);
         verifyPageLoaded();
         ensureListView();
+        PagePerformance.capture(driver, "Module Overview");
     }
 
     /** SPECIAL constructor → allows skipping list-view switching */
@@ -40,6 +55,7 @@ public class ModuleOverviewPage extends BaseTest {
         if (!skipEnsureListView) {
             ensureListView();
         }
+        PagePerformance.capture(driver, "Module Overview");
     }
 
     // -----------------------------
@@ -52,12 +68,14 @@ public class ModuleOverviewPage extends BaseTest {
     private By activeViewButton = By.cssSelector("app-list-grid-toggle button.active");
 
     // LIST VIEW table
+    private static final String TABLE_BODY_CSS = "app-module-manager-list-view table tbody";
     private By tableRows = By.cssSelector("app-module-manager-list-view table tbody tr");
     private By tableElement = By.cssSelector("app-module-manager-list-view table");
 
     // CORRECTED PAGINATION LOCATORS
     private By nextPageButton = By.cssSelector(".paginator_navigation app-button:last-of-type button");
-    private By rangeText = By.cssSelector(".paginator_range_display");
+    private static final String RANGE_DISPLAY_CSS = ".paginator_range_display";
+    private By rangeText = By.cssSelector(RANGE_DISPLAY_CSS);
 
     //Filters
     //Network Status filters
@@ -101,6 +119,53 @@ public class ModuleOverviewPage extends BaseTest {
     // Module name cell (to detect commissioned/uncommissioned)
     private By moduleNameCell = By.cssSelector("td.cdk-column-module_name span");
 
+    // -----------------------------
+    // Bulk table extraction
+    // -----------------------------
+
+    /**
+     * Serialises every row of the list-view table in one round-trip.
+     * Text is whitespace-collapsed like WebElement.getText(); missing cells come back as null.
+     */
+    private static final String EXTRACT_TABLE_SCRIPT =
+            "function txt(el) { return el ? (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim() : null; }\n" +
+            "function cell(row, css) { return row.querySelector(css); }\n" +
+            "function indicator(row, column) {\n" +
+            "  var ind = row.querySelector('td.' + column + ' app-module-status-indicator');\n" +
+            "  if (!ind) return { text: null, classes: null, icon: null };\n" +
+            "  var div = ind.querySelector('div.module_status_indicator');\n" +
+            "  var img = ind.querySelector('img');\n" +
+            "  return { text: txt(ind), classes: div ? div.getAttribute('class') : null, icon: img ? img.src : null };\n" +
+            "}\n" +
+            "var rows = document.querySelectorAll('app-module-manager-list-view table tbody tr');\n" +
+            "var out = [];\n" +
+            "for (var i = 0; i < rows.length; i++) {\n" +
+            "  var r = rows[i];\n" +
+            "  var nameSpan = cell(r, 'td.cdk-column-module_name span');\n" +
+            "  var network = indicator(r, 'mat-column-network_status');\n" +
+            "  var io = indicator(r, 'mat-column-io_status');\n" +
+            "  out.push({\n" +
+            "    name: txt(cell(r, 'td.cdk-column-module_name')),\n" +
+            "    nameClass: nameSpan ? nameSpan.getAttribute('class') : null,\n" +
+            "    moduleIp: txt(cell(r, 'td.mat-column-module_id')),\n" +
+            "    networkCell: txt(cell(r, 'td.mat-column-network_status')),\n" +
+            "    networkText: network.text, networkClass: network.classes, networkIcon: network.icon,\n" +
+            "    ioText: io.text, ioClass: io.classes, ioIcon: io.icon,\n" +
+            "    lastSeen: txt(cell(r, 'td.cdk-column-last_seen')),\n" +
+            "    hasAction: !!cell(r, 'td.cdk-column-action button.khebab_action')\n" +
+            "  });\n" +
+            "}\n" +
+            "return out;";
+
+    /** Filter dropdown labels, paginator range text and document load time, used as the snapshot cache key. */
+    private static final String FILTER_STATE_SCRIPT =
+            "var labels = Array.prototype.map.call(\n" +
+            "    document.querySelectorAll(\"app-select[usecase='module_status_filter'] button.select .label\"),\n" +
+            "    function (el) { return (el.innerText || el.textContent || '').trim(); });\n" +
+            "var range = document.querySelector('.paginator_range_display');\n" +
+            "return { labels: labels, range: range ? (range.innerText || range.textContent || '').trim() : '',\n" +
+            "         document: String(performance.timeOrigin) };";
+
 
     // -----------------------------
     // Page Load Verification
@@ -113,6 +178,7 @@ public class ModuleOverviewPage extends BaseTest {
                     ExpectedConditions.visibilityOfElementLocated(listViewButton),
                     ExpectedConditions.visibilityOfElementLocated(gridViewButton)
             ));
+            wait.waitForAngularStable();
 
             System.out.println("✔ Module Overview loaded.");
         } catch (TimeoutException e) {
@@ -162,7 +228,7 @@ public class ModuleOverviewPage extends BaseTest {
                 ExpectedConditions.visibilityOfElementLocated(noDataMessage)
         ));
 
-        wait.waitForSeconds(1);
+        wait.waitForAngularStable();
     }
 
 
@@ -176,7 +242,7 @@ public class ModuleOverviewPage extends BaseTest {
             dropdown.sendKeys("100");
             dropdown.sendKeys(Keys.ENTER);
 
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             System.out.println("✔ rows-per-page set to 100.");
         } catch (Exception e) {
@@ -186,14 +252,156 @@ public class ModuleOverviewPage extends BaseTest {
 
 
     // ------------------------------------------------
-    // Count ALL modules across ALL pages
+    // Count ALL modules
     // ------------------------------------------------
+
+    /** How countAllModules(CountMode) obtains the total. */
+    public enum CountMode {
+        /** click through every page and count rows */
+        PAGINATE,
+        /** read the total from the paginator range display, no navigation */
+        PAGINATOR,
+        /** paginator total, confirmed on the last page (walks the paginator reading only the range display) */
+        PAGINATOR_VERIFIED
+    }
+
+    // "1 – 100 of 250" (any dash) → from, to, total
+    private static final Pattern RANGE_PATTERN =
+            Pattern.compile("(\\d+)\\s*[-–—]\\s*(\\d+)\\s+of\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RANGE_TOTAL_PATTERN =
+            Pattern.compile("of\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
+
+    /** Parsed paginator range display; from/to are 0 when only the total could be read. */
+    private record PaginatorRange(int from, int to, int total) {
+
+        int rowsOnPage() {
+            return from == 0 ? 0 : to - from + 1;
+        }
+    }
+
+    private static PaginatorRange parseRange(String text) {
+        if (text == null) return null;
+
+        Matcher full = RANGE_PATTERN.matcher(text);
+        if (full.find()) {
+            return new PaginatorRange(
+                    Integer.parseInt(full.group(1)),
+                    Integer.parseInt(full.group(2)),
+                    Integer.parseInt(full.group(3)));
+        }
+
+        Matcher totalOnly = RANGE_TOTAL_PATTERN.matcher(text);
+        if (totalOnly.find()) {
+            return new PaginatorRange(0, 0, Integer.parseInt(totalOnly.group(1)));
+        }
+        return null;
+    }
+
+    private PaginatorRange readRange() {
+        try {
+            return parseRange(safeGetText(safeFind(rangeText)));
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    public int countAllModules(CountMode mode) {
+        if (mode == CountMode.PAGINATE) {
+            return countAllModules();
+        }
+
+        System.out.println("\n=== COUNTING MODULES FROM PAGINATOR (" + mode + ") ===");
+
+        ensureListView();
+        waitForTableToLoad();
+
+        PaginatorRange range = readRange();
+
+        if (range == null) {
+            System.out.println("⚠ Could not parse paginator range. Falling back to counting every page.");
+            return countAllModules();
+        }
+
+        System.out.println(" Paginator range → " + range.from() + " - " + range.to() + " of " + range.total());
+
+        if (mode == CountMode.PAGINATOR_VERIFIED) {
+            verifyPaginatorTotal(range);
+        }
+
+        System.out.println("✔ TOTAL modules (paginator) = " + range.total());
+        return range.total();
+    }
+
+    // walk to the last page reading only the range display: there the rows and "to == total" confirm the total
+    private void verifyPaginatorTotal(PaginatorRange first) {
+        int rendered = countRowsOnCurrentPage();
+
+        if (rendered == 0) {
+            if (first.total() != 0) {
+                throw new IllegalStateException(" Paginator says " + first.total() + " modules but the table is empty");
+            }
+            System.out.println("✔ Empty table matches paginator total 0.");
+            return;
+        }
+
+        if (first.from() == 0) {
+            // only the total is readable → no range to follow; count the rows instead
+            int counted = hasNextPage() ? countAllModules() : rendered;
+            if (counted != first.total()) {
+                throw new IllegalStateException(" Paginator total is " + first.total() + " but the table has " + counted + " rows");
+            }
+            System.out.println("✔ Counted rows = " + counted + " (matches paginator total).");
+            return;
+        }
+
+        if (first.from() != 1) {
+            throw new IllegalStateException(" Paginator range starts at " + first.from() + ", not at 1");
+        }
+
+        PaginatorRange range = first;
+        int pages = 1;
+
+        if (hasNextPage()) {
+            setRowsPerPageTo100();   // fewer pages to walk
+            range = readRange();
+            if (range == null || range.from() != 1) {
+                throw new IllegalStateException(" Paginator range unreadable after changing the page size");
+            }
+        }
+
+        while (hasNextPage()) {
+            goToNextPage();
+            PaginatorRange next = readRange();
+
+            if (next == null || next.from() != range.to() + 1 || next.total() != first.total()) {
+                throw new IllegalStateException(" Paginator pages do not join up: " + range.from() + " - " + range.to()
+                        + " followed by " + (next == null ? "an unreadable range" : next.from() + " - " + next.to()
+                        + " of " + next.total()));
+            }
+            range = next;
+            pages++;
+        }
+
+        rendered = countRowsOnCurrentPage();
+        if (rendered != range.rowsOnPage()) {
+            throw new IllegalStateException(" Paginator says " + range.rowsOnPage()
+                    + " rows on the last page but table shows " + rendered);
+        }
+        if (range.to() != range.total()) {
+            throw new IllegalStateException(" Last page ends at " + range.to() + " but the paginator total is " + range.total());
+        }
+
+        System.out.println("✔ Last page (" + pages + ") shows rows " + range.from() + " - " + range.to()
+                + " = " + rendered + " rows, ending at the paginator total.");
+    }
+
+    // Count ALL modules across ALL pages by walking the paginator
     public int countAllModules() {
         System.out.println("\n=== COUNTING MODULES IN MODULE OVERVIEW ===");
 
         ensureListView();
         setRowsPerPageTo100();
-        wait.waitForSeconds(1);
+        wait.waitForAngularStable();
 
         int total = countRowsOnCurrentPage();
         System.out.println(" Page 1 rows = " + total);
@@ -201,7 +409,7 @@ public class ModuleOverviewPage extends BaseTest {
         // Loop through pagination
         while (hasNextPage()) {
             goToNextPage();
-            int rows = countRowsOnCurrentPage();
+            int rows = safeFindAll(tableRows).size();
             System.out.println(" Next page rows = " + rows);
             total += rows;
         }
@@ -229,30 +437,47 @@ public class ModuleOverviewPage extends BaseTest {
     }
 
 
-    // click next page reliably
+    // click next page and return as soon as the table has actually switched pages
     private void goToNextPage() {
+        PagePerformance.Action timing = PagePerformance.startAction(driver, "goToNextPage");
+        awaitNextPage(startNextPage());
+        timing.finish();
+    }
+
+    // click next page WITHOUT waiting, so the caller can work while the browser loads it
+    private PageTransitionWatcher startNextPage() {
         System.out.println("➡ Clicking NEXT PAGE...");
+
+        PageTransitionWatcher watcher = new PageTransitionWatcher(driver, TABLE_BODY_CSS, RANGE_DISPLAY_CSS);
+        watcher.arm();
+
         ui.safeClick(nextPageButton);
-        wait.waitForSeconds(2);
+        return watcher;
+    }
+
+    private void awaitNextPage(PageTransitionWatcher watcher) {
+        if (!watcher.awaitChange(Duration.ofSeconds(40))) {
+            System.out.println("⚠ Page change not detected. Falling back to table load wait.");
+            waitForTableToLoad();
+        } else {
+            // new rows are in; let pending requests / placeholder rows settle before the page is read
+            wait.waitForAngularStable();
+        }
+        watcher.settled();
     }
 
     // -----------------------------
     // === GLOBAL SAFE HELPERS ===
     // -----------------------------
     /**
-     * safeFind: find single element with retries to avoid stale exceptions
+     * safeFind: find single element, retrying stale/missing elements with the shared backoff policy
      */
     private WebElement safeFind(By locator) {
-        int attempts = 0;
-        while (attempts < 4) {
-            try {
-                WebElement el = driver.findElement(locator);
-                return el;
-            } catch (StaleElementReferenceException | NoSuchElementException e) {
-                attempts++;
-                wait.waitForSeconds(1);
-            }
-        }
+        try {
+            return retry.call(() -> driver.findElement(locator),
+                    StaleElementReferenceException.class, NoSuchElementException.class);
+        } catch (StaleElementReferenceException | NoSuchElementException ignored) {}
+
         // final attempt using explicit wait
         try {
             WebDriverWait w = new WebDriverWait(driver, Duration.ofSeconds(5));
@@ -263,19 +488,14 @@ public class ModuleOverviewPage extends BaseTest {
     }
 
     /**
-     * safeFindAll: find elements with a short retry loop; returns empty list if none
+     * safeFindAll: find elements, retrying stale elements; returns empty list if none
      */
     private List<WebElement> safeFindAll(By locator) {
-        int attempts = 0;
-        while (attempts < 4) {
-            try {
-                List<WebElement> els = driver.findElements(locator);
-                return els == null ? new ArrayList<>() : els;
-            } catch (StaleElementReferenceException e) {
-                attempts++;
-                wait.waitForSeconds(1);
-            }
-        }
+        try {
+            List<WebElement> els = retry.call(() -> driver.findElements(locator), StaleElementReferenceException.class);
+            return els == null ? new ArrayList<>() : els;
+        } catch (StaleElementReferenceException ignored) {}
+
         // last resort
         try {
             return driver.findElements(locator);
@@ -285,63 +505,49 @@ public class ModuleOverviewPage extends BaseTest {
     }
 
     /**
-     * safeFindWithin: find child element within parent with retries
+     * safeFindWithin: find child element within parent, retrying stale/missing elements
      */
     private WebElement safeFindWithin(WebElement parent, By childLocator) {
-        int attempts = 0;
-        while (attempts < 4) {
-            try {
-                return parent.findElement(childLocator);
-            } catch (StaleElementReferenceException | NoSuchElementException e) {
-                attempts++;
-                wait.waitForSeconds(1);
-                // refresh parent if possible (best-effort)
-                try {
-                    // no-op: allow loop to retry
-                } catch (Exception ignored) {}
-            }
+        try {
+            return retry.call(() -> parent.findElement(childLocator),
+                    StaleElementReferenceException.class, NoSuchElementException.class);
+        } catch (StaleElementReferenceException | NoSuchElementException e) {
+            throw new NoSuchElementException("Child element not found: " + childLocator.toString());
         }
-        throw new NoSuchElementException("Child element not found: " + childLocator.toString());
     }
 
     /**
-     * safeGetText: robust getText with retries against stale elements
+     * safeGetText: getText, retrying stale elements; "" if the element never recovers
      */
     private String safeGetText(WebElement el) {
-        int attempts = 0;
-        while (attempts < 4) {
-            try {
-                return el.getText();
-            } catch (StaleElementReferenceException e) {
-                attempts++;
-                wait.waitForSeconds(1);
-            }
+        try {
+            return retry.call(el::getText, StaleElementReferenceException.class);
+        } catch (StaleElementReferenceException e) {
+            return "";
         }
-        return "";
     }
 
     /**
      * safeClick on WebElement with retry and fallback to JS click
      */
     private void safeClickElement(WebElement el) {
-        int attempts = 0;
-        while (attempts < 3) {
-            try {
-                el.click();
-                return;
-            } catch (ElementClickInterceptedException | StaleElementReferenceException e) {
-                attempts++;
-                wait.waitForSeconds(1);
+        try {
+            retry.run(() -> {
                 try {
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", el);
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
-                    return;
-                } catch (Exception ignored) {}
-            } catch (Exception e) {
-                attempts++;
-                wait.waitForSeconds(1);
-            }
-        }
+                    el.click();
+                } catch (ElementClickInterceptedException | StaleElementReferenceException e) {
+                    // covered or re-rendered → try a JS click before backing off
+                    try {
+                        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", el);
+                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
+                    } catch (Exception jsFailed) {
+                        throw e;
+                    }
+                }
+            }, WebDriverException.class);
+            return;
+        } catch (WebDriverException ignored) {}
+
         // final attempt by JS (best-effort)
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
@@ -358,15 +564,332 @@ public class ModuleOverviewPage extends BaseTest {
         safeClickElement(el);
     }
 
+    /**
+     * extractCurrentPage: all rows of the visible table page in ONE executeScript call
+     */
+    @SuppressWarnings("unchecked")
+    private List<ModuleRow> extractCurrentPage(int page) {
+        Object result;
+        try {
+            // rows present is what the script needs, and not something the failed script already told us
+            result = retry.call(() -> ((JavascriptExecutor) driver).executeScript(EXTRACT_TABLE_SCRIPT),
+                    () -> !driver.findElements(tableRows).isEmpty(), JavascriptException.class);
+        } catch (JavascriptException e) {
+            return new ArrayList<>();
+        }
+
+        List<Map<String, Object>> raw = result == null
+                ? new ArrayList<>()
+                : (List<Map<String, Object>>) result;
+
+        List<ModuleRow> rows = new ArrayList<>(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            rows.add(ModuleRow.fromScriptResult(page, i, raw.get(i)));
+        }
+        return rows;
+    }
+
+    // ------------------------------------------------
+    // Snapshot of ALL pages (one pagination walk)
+    // ------------------------------------------------
+    public ModuleTableSnapshot captureSnapshot() {
+        return captureSnapshot(null);
+    }
+
+    /**
+     * Walk all pages once. When an engine is given, page N is validated on a virtual worker thread
+     * while the browser loads page N+1; pages are fed to the engine strictly in order.
+     */
+    private ModuleTableSnapshot captureSnapshot(ModuleValidationEngine engine) {
+        System.out.println("\n➡ Capturing Module Overview table snapshot...");
+
+        String cacheKey = snapshotCacheKey();
+        ModuleTableSnapshot cached = ModuleSnapshotCache.get(driver, cacheKey);
+        if (cached != null) {
+            System.out.println("✔ Snapshot served from cache (" + cached.size() + " modules) for state: " + cacheKey);
+            if (engine != null) engine.acceptAll(cached.rows());
+            return cached;
+        }
+
+        List<List<ModuleRow>> pages = new ArrayList<>();
+        List<Future<?>> validations = new ArrayList<>();
+        int page = 1;
+
+        ExecutorService validator = engine == null
+                ? null
+                : Executors.newSingleThreadExecutor(Thread.ofVirtual().name("module-row-validator").factory());
+
+        try {
+            while (true) {
+                List<ModuleRow> rows = extractCurrentPage(page);
+                System.out.println(" Page " + page + " rows = " + rows.size());
+                pages.add(rows);
+
+                boolean more = hasNextPage();
+
+                // 1. let the browser start fetching/rendering the next page
+                PageTransitionWatcher transition = more ? startNextPage() : null;
+
+                // 2. validate this page in the meantime
+                if (validator != null) {
+                    validations.add(validator.submit(() -> engine.acceptAll(rows)));
+                }
+
+                if (!more) break;
+
+                awaitNextPage(transition);
+                page++;
+            }
+
+            for (Future<?> validation : validations) {
+                validation.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating module rows", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Module row validation failed: " + e.getCause(), e.getCause());
+        } finally {
+            if (validator != null) validator.shutdownNow();
+        }
+
+        ModuleTableSnapshot snapshot = ModuleTableSnapshot.of(pages);
+        System.out.println("✔ Snapshot captured: " + snapshot.size() + " modules on " + snapshot.pageCount() + " page(s).");
+
+        ModuleSnapshotCache.put(driver, cacheKey, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * snapshotCacheKey: the key needs neither list view nor 100 rows per page, so it is read before the table
+     * is touched and a cached snapshot costs one script call. On a miss the table is prepared for the walk
+     * and the key is read again from the loaded table.
+     */
+    private String snapshotCacheKey() {
+        String cacheKey = readFilterStateKey();
+        if (ModuleSnapshotCache.get(driver, cacheKey) != null) return cacheKey;
+
+        ensureListView();
+        setRowsPerPageTo100();
+        waitForTableToLoad();
+        return readFilterStateKey();
+    }
+
+    /**
+     * readFilterStateKey: active filter labels + paginator total, read in one script call
+     */
+    @SuppressWarnings("unchecked")
+    private String readFilterStateKey() {
+        try {
+            Map<String, Object> state = (Map<String, Object>)
+                    ((JavascriptExecutor) driver).executeScript(FILTER_STATE_SCRIPT);
+
+            List<String> labels = new ArrayList<>();
+            for (Object label : (List<Object>) state.get("labels")) {
+                labels.add(String.valueOf(label));
+            }
+            return ModuleSnapshotCache.key(
+                    String.valueOf(state.get("document")), labels, String.valueOf(state.get("range")));
+        } catch (Exception e) {
+            // unknown state → unique key, never served from cache
+            return "uncached-" + System.nanoTime();
+        }
+    }
+
+    /**
+     * validate: run the given rules over a fresh snapshot in one pass and print the report
+     */
+    private ModuleValidationEngine.Report validate(List<ModuleRowRule> rules) {
+        ModuleValidationEngine engine = new ModuleValidationEngine(rules);
+        captureSnapshot(engine);
+
+        ModuleValidationEngine.Report report = engine.report();
+        report.print();
+        return report;
+    }
+
+    // ------------------------------------------------
+    // Sharded snapshot (several tabs, one browser)
+    // ------------------------------------------------
+
+    /** One extra tab walking a contiguous page range. */
+    private static final class Shard {
+        final String handle;
+        final int firstPage;
+        final int lastPage;
+        int page = 1;
+        boolean positioned;
+        PageTransitionWatcher pending;
+
+        Shard(String handle, int firstPage, int lastPage) {
+            this.handle = handle;
+            this.firstPage = firstPage;
+            this.lastPage = lastPage;
+        }
+    }
+
+    /**
+     * Same snapshot as captureSnapshot(), scraped by up to {@code shards} tabs of this driver.
+     * Each tab owns a contiguous page range; tabs are visited round-robin, so while one tab is read
+     * the others are loading their next page. Falls back to one tab when filters are applied
+     * (filter state is not shared between tabs) or the paginator range cannot be read.
+     */
+    public ModuleTableSnapshot captureSnapshot(int shards) {
+        if (shards <= 1) return captureSnapshot();
+
+        if (filtersApplied) {
+            System.out.println("⚠ Filters are applied in this tab — capturing the snapshot in a single tab.");
+            return captureSnapshot();
+        }
+
+        System.out.println("\n➡ Capturing Module Overview table snapshot with " + shards + " tabs...");
+
+        String cacheKey = snapshotCacheKey();
+        ModuleTableSnapshot cached = ModuleSnapshotCache.get(driver, cacheKey);
+        if (cached != null) {
+            System.out.println("✔ Snapshot served from cache (" + cached.size() + " modules) for state: " + cacheKey);
+            return cached;
+        }
+
+        PaginatorRange range = readRange();
+        if (range == null || range.from() == 0 || range.total() == 0) {
+            System.out.println("⚠ Could not read paginator range — capturing the snapshot in a single tab.");
+            return captureSnapshot();
+        }
+
+        int pageSize = range.rowsOnPage();
+        int totalPages = (range.total() + pageSize - 1) / pageSize;
+        int tabs = Math.min(shards, totalPages);
+        if (tabs <= 1) return captureSnapshot();
+
+        String mainHandle = driver.getWindowHandle();
+        String url = driver.getCurrentUrl();
+        List<Shard> tabShards = new ArrayList<>();
+        Map<Integer, List<ModuleRow>> pagesByNumber = new TreeMap<>();
+
+        try {
+            // 1. open the tabs and send each one towards the start of its range
+            for (int i = 0; i < tabs; i++) {
+                int firstPage = i * totalPages / tabs + 1;
+                int lastPage = (i + 1) * totalPages / tabs;
+
+                String handle = mainHandle;
+                if (i > 0) {
+                    driver.switchTo().newWindow(WindowType.TAB);
+                    driver.get(url);
+                    handle = driver.getWindowHandle();
+                    ensureListView();
+                    setRowsPerPageTo100();
+                    waitForTableToLoad();
+                }
+
+                Shard shard = new Shard(handle, firstPage, lastPage);
+                fastForward(shard);
+                tabShards.add(shard);
+                System.out.println(" Tab " + (i + 1) + " → pages " + firstPage + " - " + lastPage);
+            }
+
+            // 2. round-robin: read one page per tab, then let that tab load its next page
+            List<Shard> active = new ArrayList<>(tabShards);
+            while (!active.isEmpty()) {
+                Iterator<Shard> it = active.iterator();
+                while (it.hasNext()) {
+                    Shard shard = it.next();
+                    driver.switchTo().window(shard.handle);
+
+                    if (!shard.positioned) {
+                        settleAtPage(shard.firstPage, pageSize);
+                        shard.page = shard.firstPage;
+                        shard.positioned = true;
+                    } else if (shard.pending != null) {
+                        awaitNextPage(shard.pending);
+                        shard.pending = null;
+                    }
+
+                    List<ModuleRow> rows = extractCurrentPage(shard.page);
+                    System.out.println(" Page " + shard.page + " rows = " + rows.size());
+                    pagesByNumber.put(shard.page, rows);
+
+                    if (shard.page < shard.lastPage && hasNextPage()) {
+                        shard.pending = startNextPage();
+                        shard.page++;
+                    } else {
+                        it.remove();
+                    }
+                }
+            }
+        } finally {
+            for (Shard shard : tabShards) {
+                if (shard.handle.equals(mainHandle)) continue;
+                try {
+                    driver.switchTo().window(shard.handle);
+                    driver.close();
+                } catch (Exception ignored) {}
+            }
+            driver.switchTo().window(mainHandle);
+        }
+
+        ModuleTableSnapshot snapshot = ModuleTableSnapshot.of(new ArrayList<>(pagesByNumber.values()));
+        System.out.println("✔ Snapshot captured: " + snapshot.size() + " modules on " + snapshot.pageCount()
+                + " page(s) using " + tabs + " tabs.");
+
+        if (snapshot.size() != range.total()) {
+            System.out.println("⚠ Paginator reported " + range.total() + " modules but the tabs collected "
+                    + snapshot.size() + " — not caching this snapshot.");
+            return snapshot;
+        }
+
+        ModuleSnapshotCache.put(driver, cacheKey, snapshot);
+        return snapshot;
+    }
+
+    // queue NEXT clicks without waiting for each page; settleAtPage() checks where the tab ended up
+    private void fastForward(Shard shard) {
+        for (int i = 1; i < shard.firstPage && hasNextPage(); i++) {
+            ui.safeClick(nextPageButton);
+        }
+    }
+
+    // wait for the current tab to render, then step page by page if fast-forward clicks were swallowed
+    private void settleAtPage(int page, int pageSize) {
+        int expectedFrom = (page - 1) * pageSize + 1;
+        waitForTableToLoad();
+
+        PaginatorRange range = readRange();
+        while (range != null && range.from() < expectedFrom && hasNextPage()) {
+            goToNextPage();
+            range = readRange();
+        }
+
+        if (range == null || range.from() != expectedFrom) {
+            throw new IllegalStateException("Tab could not be positioned on page " + page
+                    + " (paginator shows " + (range == null ? "nothing" : range.from() + " - " + range.to()) + ")");
+        }
+    }
+
+    /**
+     * validate: sharded variant — capture with several tabs, then run the rules over the merged pages
+     */
+    private ModuleValidationEngine.Report validate(List<ModuleRowRule> rules, int shards) {
+        if (shards <= 1) return validate(rules);
+
+        ModuleValidationEngine.Report report = ModuleValidationEngine.run(captureSnapshot(shards), rules);
+        report.print();
+        return report;
+    }
+
     // =========================
     // Network Status Filter
     // =========================
     public void applyNetworkFilter(String value) {
         System.out.println("➡ Applying Network Status Filter: " + value);
+        ModuleSnapshotCache.invalidate(driver);
+        filtersApplied = true;
+        PagePerformance.Action timing = PagePerformance.startAction(driver, "applyNetworkFilter");
 
         // Open dropdown (use safeClick wrapper)
         safeClick(networkFilterButton);
-        wait.waitForSeconds(1);
+        wait.waitForAngularStable();
 
         // Wait for overlay options
         List<WebElement> options = safeFindAll(networkFilterOptions);
@@ -386,8 +909,9 @@ public class ModuleOverviewPage extends BaseTest {
             throw new RuntimeException(" Network Status filter option NOT FOUND: " + value);
         }
 
-        wait.waitForSeconds(2);
+        wait.waitForAngularStable();
         waitForTableToLoad();
+        timing.finish();
 
         System.out.println("✔ Network Status filter applied: " + value);
     }
@@ -409,54 +933,17 @@ public class ModuleOverviewPage extends BaseTest {
 
         String expectedStatus = mapNetworkStatus(filterValue).toLowerCase();
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        int page = 1;
-        int totalMatched = 0;
-
-        while (true) {
-
-            System.out.println("➡ Validating page " + page);
-            waitForTableToLoad();
-
-            List<WebElement> statuses = safeFindAll(By.cssSelector("td.mat-column-network_status"));
-
-            if (statuses.isEmpty()) {
-                System.out.println("⚠ No rows found on page " + page);
-            }
-
-            int pageMatched = 0;
+        ModuleValidationEngine.Report report = validate(List.of(ModuleRowRules.networkFilter(expectedStatus)));
 
-            for (WebElement cell : statuses) {
-                String text = safeGetText(cell).trim().toLowerCase();
-
-                if (text.contains(expectedStatus)) {
-                    pageMatched++;
-                } else {
-                    System.out.println(" MISMATCH → Expected: " + expectedStatus + ", Found: " + text);
-                    return false;
-                }
-            }
-
-            System.out.println(" Page " + page + " matched rows = " + pageMatched);
-
-            totalMatched += pageMatched;
-
-            if (!hasNextPage()) break;
-
-            goToNextPage();
-            page++;
-        }
+        if (!report.passed()) return false;
 
         // FINAL SUMMARY LOGGING
-        if (totalMatched == 0) {
+        if (report.rowsChecked() == 0) {
             System.out.println("⚠ WARNING: No modules found with Network Status = " + expectedStatus);
             return true;
         }
 
-        System.out.println("Found " + totalMatched + " modules with Network Status = " + expectedStatus);
+        System.out.println("Found " + report.rowsChecked() + " modules with Network Status = " + expectedStatus);
         System.out.println("✔ All rows match expected Network Status: " + expectedStatus);
 
         return true;
@@ -469,9 +956,12 @@ public class ModuleOverviewPage extends BaseTest {
     public void applyIOFilter(String value) {
 
         System.out.println("➡ Applying I/O Status Filter: " + value);
+        ModuleSnapshotCache.invalidate(driver);
+        filtersApplied = true;
+        PagePerformance.Action timing = PagePerformance.startAction(driver, "applyIOFilter");
 
         safeClick(ioFilterButton);
-        wait.waitForSeconds(1);
+        wait.waitForAngularStable();
 
         List<WebElement> options = safeFindAll(ioFilterOptions);
 
@@ -490,8 +980,9 @@ public class ModuleOverviewPage extends BaseTest {
             throw new RuntimeException(" I/O Status filter option NOT FOUND: " + value);
         }
 
-        wait.waitForSeconds(2);
+        wait.waitForAngularStable();
         waitForTableToLoad();
+        timing.finish();
 
         System.out.println("✔ I/O Status filter applied: " + value);
     }
@@ -501,72 +992,43 @@ public class ModuleOverviewPage extends BaseTest {
         System.out.println("\n=== VALIDATING I/O FILTER RESULTS FOR: " + filterValue + " ===");
 
         String expected = filterValue.toLowerCase();
-        int totalRowsChecked = 0;
-        int matchedCount = 0;
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
+        ModuleValidationEngine engine = new ModuleValidationEngine(List.of(ModuleRowRules.ioFilter(expected)));
+        ModuleTableSnapshot snapshot = captureSnapshot(engine);
+        ModuleValidationEngine.Report report = engine.report();
+        report.print();
 
-        int page = 1;
+        if (!report.passed()) return false;
 
-        while (true) {
+        long matchedCount = snapshot.stream().filter(row -> row.ioText() != null).count();
 
-            System.out.println("➡ Validating page " + page);
+        // ---- Logging summary ----
+        if (matchedCount == 0) {
+            System.out.println("⚠ WARNING: No modules found with I/O Status = " + expected);
+            return true;   // Do NOT print success message
+        }
 
-            List<WebElement> statuses = safeFindAll(ioStatusColumn);
+        System.out.println("Found " + matchedCount + " modules with I/O Status = " + expected);
+        System.out.println("✔ All rows match expected I/O Status: " + expected);
+        return true;
 
-            if (statuses.isEmpty()) {
-                System.out.println("⚠ No rows found on page " + page);
-            }
+    }
 
-            for (WebElement cell : statuses) {
-                totalRowsChecked++;
-
-                String text = safeGetText(cell).trim().toLowerCase();
-
-                if (text.contains(expected)) {
-                    matchedCount++;
-                } else {
-                    System.out.println(
-                            " MISMATCH → Expected: " + expected + " | Found: " + text
-                    );
-                    return false;
-                }
-            }
-
-            System.out.println(" Page " + page + " matched rows = " + matchedCount);
-
-            if (!hasNextPage()) break;
-
-            goToNextPage();
-            page++;
-        }
-
-        // ---- Logging summary ----
-        if (matchedCount == 0) {
-            System.out.println("⚠ WARNING: No modules found with I/O Status = " + expected);
-            return true;   // Do NOT print success message
-        }
-
-        System.out.println("Found " + matchedCount + " modules with I/O Status = " + expected);
-        System.out.println("✔ All rows match expected I/O Status: " + expected);
-        return true;
-
-    }
-
-    // =============================================
-    // APPLY "ALL" FILTER (All / Commissioned / Uncommissioned)
-    // =============================================
-    public void applyAllFilter(String value) {
+    // =============================================
+    // APPLY "ALL" FILTER (All / Commissioned / Uncommissioned)
+    // =============================================
+    public void applyAllFilter(String value) {
 
         System.out.println("\n➡ Applying ALL filter: " + value);
+        ModuleSnapshotCache.invalidate(driver);
+        filtersApplied = true;
+        PagePerformance.Action timing = PagePerformance.startAction(driver, "applyAllFilter");
 
         // Locate ONLY the All dropdown (third app-select)
         By allDropdown = By.cssSelector("app-select[usecase='module_status_filter']:nth-of-type(3) button.select");
 
         safeClick(allDropdown);
-        wait.waitForSeconds(1);
+        wait.waitForAngularStable();
 
         // Overlay items
         By options = By.cssSelector(".cdk-overlay-pane app-action-items-overlay ul li button");
@@ -577,8 +1039,9 @@ public class ModuleOverviewPage extends BaseTest {
             String txt = safeGetText(item).trim();
             if (txt.equalsIgnoreCase(value)) {
                 safeClickElement(item);
-                wait.waitForSeconds(2);
+                wait.waitForAngularStable();
                 waitForTableToLoad();
+                timing.finish();
                 return;
             }
         }
@@ -586,19 +1049,6 @@ public class ModuleOverviewPage extends BaseTest {
         throw new RuntimeException(" Could not find All filter option: " + value);
     }
 
-    private String getCommissionState(WebElement row) {
-        try {
-            WebElement span = safeFindWithin(row, By.cssSelector("td.cdk-column-module_name span"));
-            String clazz = span.getAttribute("class").trim().toLowerCase();
-
-            if (clazz.equals("na")) return "commissioned";
-            if (clazz.equals("uncommissioned")) return "uncommissioned";
-
-        } catch (Exception ignored) {}
-
-        return "unknown";
-    }
-
     // =============================================
     // VALIDATE RESULTS FOR: All / Commissioned / Uncommissioned
     // =============================================
@@ -606,60 +1056,15 @@ public class ModuleOverviewPage extends BaseTest {
 
         System.out.println("\n=== VALIDATING ALL FILTER RESULTS FOR: " + filterValue + " ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        int page = 1;
-        int rowCount = 0;
-
-        while (true) {
-
-            System.out.println("➡ Validating page " + page);
-
-            List<WebElement> rows = safeFindAll(By.cssSelector("app-module-manager-list-view table tbody tr"));
-
-            for (WebElement row : rows) {
-
-                String state = getCommissionState(row);
-                rowCount++;
-
-                switch (filterValue.toLowerCase()) {
-
-                    case "all":
-                        break;
-
-                    case "commissioned":
-                        if (!state.equals("commissioned")) {
-                            System.out.println(" MISMATCH → Expected commissioned but found: " + state);
-                            return false;
-                        }
-                        break;
-
-                    case "uncommissioned":
-                        if (!state.equals("uncommissioned")) {
-                            System.out.println(" MISMATCH → Expected uncommissioned but found: " + state);
-                            return false;
-                        }
-                        break;
-
-                    default:
-                        System.out.println(" Invalid filter type: " + filterValue);
-                        return false;
-                }
-            }
-
-            if (!hasNextPage()) break;
+        ModuleValidationEngine.Report report = validate(List.of(ModuleRowRules.commissionFilter(filterValue)));
 
-            goToNextPage();
-            page++;
-        }
+        if (!report.passed()) return false;
 
         // Logging
-        if (rowCount == 0) {
+        if (report.rowsChecked() == 0) {
             System.out.println("⚠ WARNING: No modules found for filter = " + filterValue);
         } else {
-            System.out.println("✔ Total matching modules for '" + filterValue + "': " + rowCount);
+            System.out.println("✔ Total matching modules for '" + filterValue + "': " + report.rowsChecked());
         }
 
         System.out.println("✔ All rows match expected filter: " + filterValue);
@@ -671,13 +1076,15 @@ public class ModuleOverviewPage extends BaseTest {
 // =========================
     public boolean resetFiltersNew() {
         System.out.println("\n➡ Clicking RESET filter...");
+        ModuleSnapshotCache.invalidate(driver);
 
         try {
             WebElement reset = safeFind(resetButton);
             safeClickElement(reset);
-            wait.waitForSeconds(2);
+            wait.waitForAngularStable();
             waitForTableToLoad();
 
+            filtersApplied = false;
             System.out.println("✔ Reset clicked successfully.");
         } catch (Exception e) {
             System.out.println(" Could not click Reset button: " + e.getMessage());
@@ -732,15 +1139,17 @@ public class ModuleOverviewPage extends BaseTest {
     public void clickExport() {
         try {
             System.out.println("➡ Clicking Export on Module Overview...");
+            PagePerformance.Action timing = PagePerformance.startAction(driver, "clickExport");
 
             wait.waitForSectionToRender(By.xpath("//div[contains(@class,'exports--module_commissioning')]"));
 
             WebElement btn = wait.waitForClickable(exportButton);
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", btn);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
+            timing.finish();
 
             System.out.println("✔ Export triggered.");
 
@@ -757,41 +1166,7 @@ public class ModuleOverviewPage extends BaseTest {
 
         System.out.println("\n=== VALIDATING MODULE NAME COLUMN ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        Set<String> uniqueNames = new HashSet<>();
-        int page = 1;
-
-        By moduleNameCells = By.cssSelector("app-module-manager-list-view table tbody tr td.cdk-column-module_name");
-
-        while (true) {
-            System.out.println("➡ Validating page " + page);
-
-            waitForTableToLoad();
-
-            List<WebElement> names = safeFindAll(moduleNameCells);
-
-            for (WebElement cell : names) {
-                String name = safeGetText(cell).trim();
-
-                if (name.isEmpty()) {
-                    System.out.println(" Empty module name found!");
-                    return false;
-                }
-
-                if (!uniqueNames.add(name)) {
-                    System.out.println(" Duplicate module name found: " + name);
-                    return false;
-                }
-            }
-
-            if (!hasNextPage()) break;
-
-            goToNextPage();
-            page++;
-        }
+        if (!validate(List.of(ModuleRowRules.moduleNames())).passed()) return false;
 
         System.out.println("✔ All module names validated successfully — no empty values, no duplicates.");
         return true;
@@ -803,32 +1178,10 @@ public class ModuleOverviewPage extends BaseTest {
     // -----------------------------
     public List<String> getAllModuleIPs() {
 
-        ensureListView();
-        setRowsPerPageTo100();
-        wait.waitForSeconds(1);
-
-        waitForTableToLoad();
-
-        List<String> ipList = new java.util.ArrayList<>();
-
-        int page = 1;
-
-        while (true) {
-            System.out.println("➡ Collecting Module IPs from page " + page);
-
-            waitForTableToLoad();
-
-            List<WebElement> cells = safeFindAll(moduleIpCells);
-
-            for (WebElement cell : cells) {
-                String ip = safeGetText(cell).trim();
-                ipList.add(ip);
-            }
-
-            if (!hasNextPage()) break;
+        List<String> ipList = new ArrayList<>();
 
-            goToNextPage();
-            page++;
+        for (ModuleRow row : captureSnapshot().rows()) {
+            ipList.add(row.moduleIp() == null ? "" : row.moduleIp());
         }
 
         System.out.println("✔ TOTAL collected Module IP values = " + ipList.size());
@@ -837,36 +1190,9 @@ public class ModuleOverviewPage extends BaseTest {
 
     public boolean validateModuleIPs() {
 
-        List<String> ips = getAllModuleIPs();
+        System.out.println("\n=== VALIDATING MODULE IP COLUMN ===");
 
-        java.util.Set<String> uniqueCheck = new java.util.HashSet<>();
-
-        for (String ip : ips) {
-
-            // 1. Check for "unknown"
-            if (ip.equalsIgnoreCase("unknown") || ip.isBlank()) {
-                System.out.println(" Invalid Module IP found: '" + ip + "'");
-                return false;
-            }
-
-            // 2. Validate numeric format
-            if (!ip.matches("\\d+")) {
-                System.out.println(" Non-numeric Module IP found: " + ip);
-                return false;
-            }
-
-            // 3. Validate 4-digit pattern
-            if (ip.length() != 4) {
-                System.out.println(" Module IP not 4 digits: " + ip);
-                return false;
-            }
-
-            // 4. Check for duplicates
-            if (!uniqueCheck.add(ip)) {
-                System.out.println(" Duplicate Module IP detected: " + ip);
-                return false;
-            }
-        }
+        if (!validate(List.of(ModuleRowRules.moduleIPs())).passed()) return false;
 
         System.out.println("✔ All Module IPs are valid, unique, and correctly formatted.");
         return true;
@@ -879,77 +1205,15 @@ public class ModuleOverviewPage extends BaseTest {
 
         System.out.println("\n=== VALIDATING NETWORK STATUS COLUMN ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        int page = 1;
-
-        while (true) {
-            System.out.println("➡ Validating page " + page);
-
-            List<WebElement> indicators = safeFindAll(networkStatusCells);
-
-            if (indicators.isEmpty()) {
-                System.out.println("⚠ No network status indicators found on page " + page);
-                return false;
-            }
-
-            for (WebElement indicator : indicators) {
-
-                String text = safeGetText(indicator).trim().toLowerCase();
-
-                String iconSrc = "";
-                try {
-                    WebElement img = safeFindWithin(indicator, By.tagName("img"));
-                    iconSrc = img.getAttribute("src");
-                } catch (Exception ignored) {}
-
-                // FIX HERE: get class from the INNER DIV
-                String classes = "";
-                try {
-                    WebElement statusDiv = safeFindWithin(indicator, By.cssSelector("div.module_status_indicator"));
-                    classes = statusDiv.getAttribute("class");
-                } catch (Exception e) {
-                    System.out.println(" Could not extract internal status div class.");
-                    return false;
-                }
-
-                System.out.println(" → Found status: " + text + " | classes: " + classes + " | icon: " + iconSrc);
-
-                switch (text) {
-                    case "online":
-                        if (!classes.contains("healthy")) return false;
-                        if (!iconSrc.contains("online")) return false;
-                        break;
-
-                    case "degraded":
-                        if (!classes.contains("degraded")) return false;
-                        if (!iconSrc.contains("degraded")) return false;
-                        break;
-
-                    case "offline":
-                        if (!classes.contains("faulty")) return false;
-                        if (!iconSrc.contains("offline")) return false;
-                        break;
-
-                    case "pending":
-                        if (!classes.contains("pending")) return false;
-                        if (!iconSrc.contains("pending")) return false;
-                        break;
-
-                    default:
-                        System.out.println(" INVALID NETWORK STATUS FOUND: " + text);
-                        return false;
-                }
-            }
-
-            if (!hasNextPage()) break;
+        ModuleValidationEngine.Report report = validate(List.of(ModuleRowRules.networkStatus()));
 
-            goToNextPage();
-            page++;
+        if (report.rowsChecked() == 0) {
+            System.out.println("⚠ No network status indicators found.");
+            return false;
         }
 
+        if (!report.passed()) return false;
+
         System.out.println("✔ All Network Status values validated successfully.");
         return true;
     }
@@ -961,71 +1225,7 @@ public class ModuleOverviewPage extends BaseTest {
 
         System.out.println("\n=== VALIDATING I/O STATUS COLUMN ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        int page = 1;
-
-        while (true) {
-            System.out.println("➡ Validating page " + page);
-
-            List<WebElement> indicators = safeFindAll(ioStatusColumn);
-
-            for (WebElement indicator : indicators) {
-
-                // TEXT (Healthy / Pending / Faulty)
-                String text = safeGetText(indicator).trim().toLowerCase();
-
-                // ICON
-                String iconSrc = "";
-                try {
-                    WebElement img = safeFindWithin(indicator, By.tagName("img"));
-                    iconSrc = img.getAttribute("src");
-                } catch (Exception ignored) {}
-
-                // INNER DIV CLASS
-                String classes = "";
-                try {
-                    WebElement statusDiv =
-                            safeFindWithin(indicator, By.cssSelector("div.module_status_indicator"));
-                    classes = statusDiv.getAttribute("class");
-                } catch (Exception e) {
-                    System.out.println(" Could not extract I/O status class.");
-                    return false;
-                }
-
-                System.out.println(" → Found I/O status: " + text +
-                        " | classes: " + classes +
-                        " | icon: " + iconSrc);
-
-                switch (text) {
-                    case "healthy":
-                        if (!classes.contains("healthy")) return false;
-                        if (!iconSrc.contains("healthy")) return false;
-                        break;
-
-                    case "pending":
-                        if (!classes.contains("pending")) return false;
-                        if (!iconSrc.contains("pending")) return false;
-                        break;
-
-                    case "faulty":
-                        if (!classes.contains("faulty")) return false;
-                        if (!iconSrc.contains("faulty")) return false;
-                        break;
-
-                    default:
-                        System.out.println(" INVALID I/O STATUS FOUND: " + text);
-                        return false;
-                }
-            }
-
-            if (!hasNextPage()) break;
-
-            goToNextPage();
-            page++;
-        }
+        if (!validate(List.of(ModuleRowRules.ioStatus())).passed()) return false;
 
         System.out.println("✔ I/O Status validated across all pages.");
         return true;
@@ -1038,54 +1238,7 @@ public class ModuleOverviewPage extends BaseTest {
 
         System.out.println("\n=== VALIDATING LAST SEEN COLUMN ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        wait.waitForSeconds(1);
-
-        int page = 1;
-
-        while (true) {
-
-            System.out.println("➡ Validating page " + page);
-            waitForTableToLoad();
-
-            List<WebElement> cells = safeFindAll(lastSeenCells);
-
-            for (WebElement cell : cells) {
-                String text = safeGetText(cell).trim().toLowerCase();
-
-                System.out.println(" → Last seen: " + text);
-
-                // Fail if empty
-                if (text.isEmpty()) {
-                    System.out.println(" EMPTY Last seen value detected!");
-                    return false;
-                }
-
-                // Accepted formats: now, X minutes ago, X hours ago, X days ago, Yesterday,
-                // also accept "a minute ago" and "an hour ago"
-                boolean valid =
-                        text.equals("now") ||
-                                text.equals("yesterday") ||
-                                text.matches("a minute ago") ||
-                                text.matches("\\d+ minute[s]? ago") ||
-                                text.matches("an hour ago") ||
-                                text.matches("\\d+ hour[s]? ago") ||
-                                text.matches("\\d+ day[s]? ago");
-
-
-                if (!valid) {
-                    System.out.println(" INVALID last seen format detected: " + text);
-                    return false;
-                }
-            }
-
-            // Move to next page
-            if (!hasNextPage()) break;
-
-            goToNextPage();
-            page++;
-        }
+        if (!validate(List.of(ModuleRowRules.lastSeenFormat())).passed()) return false;
 
         System.out.println("✔ All last seen values validated successfully.");
         return true;
@@ -1097,68 +1250,34 @@ public class ModuleOverviewPage extends BaseTest {
     public boolean validateLastSeenVsNetworkStatus() {
         System.out.println("\n=== VALIDATING LAST SEEN ↔ NETWORK STATUS RELATION ===");
 
-        ensureListView();
-        setRowsPerPageTo100();
-        waitForTableToLoad();
-
-        int page = 1;
-
-        while (true) {
-
-            System.out.println("➡ Validating page " + page);
-
-            List<WebElement> lastSeenCellsLocal = safeFindAll(By.cssSelector("td.cdk-column-last_seen"));
+        if (!validate(List.of(ModuleRowRules.lastSeenVsNetworkStatus())).passed()) return false;
 
-            List<WebElement> networkStatusCellsLocal = safeFindAll(By.cssSelector("td.cdk-column-network_status"));
-
-            if (lastSeenCellsLocal.size() != networkStatusCellsLocal.size()) {
-                System.out.println(" Column row count mismatch — cannot validate!");
-                return false;
-            }
-
-            for (int i = 0; i < lastSeenCellsLocal.size(); i++) {
-
-                String lastSeenText = safeGetText(lastSeenCellsLocal.get(i)).trim().toLowerCase();
-                String networkStatusText = safeGetText(networkStatusCellsLocal.get(i)).trim().toLowerCase();
-
-                System.out.println(" Row " + (i + 1) + ": Last Seen = " + lastSeenText +
-                        " | Network Status = " + networkStatusText);
-
-                boolean shouldBeOffline = false;
-                boolean shouldBeOnline = false;
-
-                if (lastSeenText.equals("now")) {
-                    shouldBeOnline = true;
-                } else if (lastSeenText.contains("hour") ||
-                        lastSeenText.contains("day") ||
-                        lastSeenText.contains("a minute ago") ||
-                        lastSeenText.contains("minutes ago") ||
-                        lastSeenText.contains("minute ago") ||
-                        lastSeenText.contains("an hour ago")) {
-                    shouldBeOffline = true;
-                }
+        System.out.println("✔ All Last Seen ↔ Network Status relationships validated successfully.");
+        return true;
+    }
 
-                // VALIDATE EXPECTATION
-                if (shouldBeOnline && !networkStatusText.contains("online")) {
-                    System.out.println(" MISMATCH: Last seen = " + lastSeenText
-                            + " → EXPECTED ONLINE but got: " + networkStatusText);
-                    return false;
-                }
+    // -----------------------------------------------------------
+    // Validate EVERY column in one pagination walk
+    // -----------------------------------------------------------
+    public boolean validateFleet() {
+        return validateFleet(1);
+    }
 
-                if (shouldBeOffline && !networkStatusText.contains("offline")) {
-                    System.out.println(" MISMATCH: Last seen = " + lastSeenText
-                            + " → EXPECTED OFFLINE but got: " + networkStatusText);
-                    return false;
-                }
-            }
+    /** Same as validateFleet(), with the pages scraped by {@code shards} tabs of this browser. */
+    public boolean validateFleet(int shards) {
+        System.out.println("\n=== VALIDATING ALL MODULE COLUMNS (SINGLE PASS"
+                + (shards > 1 ? ", " + shards + " TABS" : "") + ") ===");
 
-            if (!hasNextPage()) break;
+        ModuleValidationEngine.Report report = validate(ModuleRowRules.fleetRules(), shards);
 
-            goToNextPage();
-            page++;
+        if (report.rowsChecked() == 0) {
+            System.out.println("⚠ No modules found — nothing to validate.");
+            return false;
         }
 
-        System.out.println("✔ All Last Seen ↔ Network Status relationships validated successfully.");
+        if (!report.passed()) return false;
+
+        System.out.println("✔ Name, IP, network, I/O, last seen and commission checks passed for all modules.");
         return true;
     }
 
@@ -1179,10 +1298,10 @@ public class ModuleOverviewPage extends BaseTest {
     private List<String> openActionMenuAndGetItems(WebElement button) {
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", button);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             safeClickElement(button);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             // fetch overlay options fresh
             List<WebElement> options = safeFindAll(actionOverlayItems);
@@ -1204,25 +1323,172 @@ public class ModuleOverviewPage extends BaseTest {
         try {
             WebElement body = safeFind(By.tagName("body"));
             safeClickElement(body);
-            wait.waitForSeconds(1);
+            wait.waitForAngularStable();
 
             List<WebElement> backdrops = safeFindAll(By.cssSelector(".cdk-overlay-backdrop"));
             if (!backdrops.isEmpty()) {
                 // try clicking offset to clear overlay
                 new Actions(driver).moveByOffset(10, 10).click().perform();
-                wait.waitForSeconds(1);
+                wait.waitForAngularStable();
             }
 
         } catch (Exception ignored) {}
     }
 
+    /** How validateActionColumnLogic() checks the action menus. */
+    public enum ActionCheckMode {
+        /** One overlay per commissioned / network-status class, every other row checked from the table data. */
+        FAST,
+        /** Open the overlay of every row (nightly runs). */
+        FULL
+    }
+
+    /** Mode comes from actionCheck.mode (fast | full), default fast. */
     public boolean validateActionColumnLogic() {
-        System.out.println("\n=== VALIDATING ACTION COLUMN LOGIC ===");
+        String configured = PropertyReader.get("actionCheck.mode");
+        ActionCheckMode mode = configured == null || configured.isBlank()
+                ? ActionCheckMode.FAST
+                : ActionCheckMode.valueOf(configured.trim().toUpperCase());
+
+        return validateActionColumnLogic(mode);
+    }
+
+    public boolean validateActionColumnLogic(ActionCheckMode mode) {
+        System.out.println("\n=== VALIDATING ACTION COLUMN LOGIC (" + mode + ") ===");
 
         ensureListView();
         setRowsPerPageTo100();
         waitForTableToLoad();
 
+        return mode == ActionCheckMode.FULL ? validateEveryActionMenu() : validateSampledActionMenus();
+    }
+
+    // The menu only depends on commission state and network status
+    private static List<String> expectedActionMenu(boolean commissioned, String networkStatus) {
+        if (commissioned) {
+            return Arrays.asList("Edit", "View Details", "Decommission", "Delete");
+        } else if (networkStatus.toLowerCase().contains("online")) {
+            return Arrays.asList("View Details", "Commission", "Delete");
+        } else {
+            return Arrays.asList("View Details", "Delete");
+        }
+    }
+
+    private static String actionClass(ModuleRow row) {
+        String network = row.networkCell() == null ? "" : row.networkCell().trim().toLowerCase();
+        return (row.isCommissioned() ? "commissioned" : "uncommissioned") + " / " + network;
+    }
+
+    /**
+     * readActionMenu: open the action overlay of the n-th row on the current page, read it, close it.
+     * Throws if the row has no action button.
+     */
+    private List<String> readActionMenu(int rowIndex) {
+        WebElement row = safeFindAll(tableRows).get(rowIndex);
+        WebElement button = safeFindWithin(row, actionButtons);
+
+        List<String> actualMenu = openActionMenuAndGetItems(button);
+
+        // Retry once if empty (overlay hiccup)
+        if (actualMenu.isEmpty()) {
+            wait.waitForSeconds(1, wait::isAngularStable);
+            try {
+                row = safeFindAll(tableRows).get(rowIndex);
+                button = safeFindWithin(row, actionButtons);
+                actualMenu = openActionMenuAndGetItems(button);
+            } catch (Exception ignored) {}
+        }
+
+        closeOverlay();
+        return actualMenu;
+    }
+
+    // -----------------------------------------------------------
+    // FAST: stratified sample + bulk check, one pagination walk
+    // -----------------------------------------------------------
+    private boolean validateSampledActionMenus() {
+        String cacheKey = readFilterStateKey();
+
+        List<List<ModuleRow>> pages = new ArrayList<>();
+        Map<String, Boolean> sampledClasses = new LinkedHashMap<>();   // class → its overlay was correct
+        int page = 1;
+
+        while (true) {
+            List<ModuleRow> rows = extractCurrentPage(page);
+            System.out.println(" Page " + page + " rows = " + rows.size());
+            pages.add(rows);
+
+            // first module of each class seen on this page → open its overlay once
+            for (ModuleRow row : rows) {
+                String moduleClass = actionClass(row);
+                if (!row.hasAction() || sampledClasses.containsKey(moduleClass)) continue;
+
+                String network = row.networkCell() == null ? "" : row.networkCell();
+                List<String> expected = expectedActionMenu(row.isCommissioned(), network);
+                List<String> actualMenu;
+                try {
+                    actualMenu = readActionMenu(row.index());
+                } catch (Exception e) {
+                    System.out.println("Could not open action menu of " + row.label() + " — trying next module of this class.");
+                    continue;
+                }
+
+                boolean ok = actualMenu.equals(expected);
+                sampledClasses.put(moduleClass, ok);
+
+                if (ok) {
+                    System.out.println("✔ Sample " + row.label() + " [" + moduleClass + "] OK → " + actualMenu);
+                } else {
+                    System.out.println("\n ACTION MENU MISMATCH (" + row.label() + ") [" + moduleClass + "]");
+                    System.out.println("Expected: " + expected);
+                    System.out.println("Actual:   " + actualMenu);
+                }
+            }
+
+            if (!hasNextPage()) break;
+
+            goToNextPage();
+            page++;
+        }
+
+        ModuleTableSnapshot snapshot = ModuleTableSnapshot.of(pages);
+        ModuleSnapshotCache.put(driver, cacheKey, snapshot);
+
+        // bulk check: every row needs a menu button, and its class must have a verified menu
+        Map<String, Integer> rowsPerClass = new LinkedHashMap<>();
+        List<String> failures = new ArrayList<>();
+
+        for (ModuleRow row : snapshot.rows()) {
+            String moduleClass = actionClass(row);
+            rowsPerClass.merge(moduleClass, 1, Integer::sum);
+
+            if (!row.hasAction()) {
+                failures.add("No action button in " + row.label());
+            } else if (!sampledClasses.containsKey(moduleClass)) {
+                failures.add("No sampled action menu for class [" + moduleClass + "] (" + row.label() + ")");
+            } else if (!sampledClasses.get(moduleClass)) {
+                failures.add("Wrong action menu for class [" + moduleClass + "] (" + row.label() + ")");
+            }
+        }
+
+        System.out.println(" Sampled " + sampledClasses.size() + " overlay(s) for " + snapshot.size() + " modules:");
+        rowsPerClass.forEach((moduleClass, count) ->
+                System.out.println("   [" + moduleClass + "] → " + count + " module(s)"));
+
+        if (!failures.isEmpty()) {
+            System.out.println(" " + failures.size() + " module(s) failed the action column check:");
+            failures.forEach(f -> System.out.println("   FAIL → " + f));
+            return false;
+        }
+
+        System.out.println("✔ ALL rows validated successfully.");
+        return true;
+    }
+
+    // -----------------------------------------------------------
+    // FULL: open the overlay of every row
+    // -----------------------------------------------------------
+    private boolean validateEveryActionMenu() {
         int rowIndex = 1;
 
         while (true) {
@@ -1230,50 +1496,26 @@ public class ModuleOverviewPage extends BaseTest {
             System.out.println("➡ Validating page rows...");
 
             // ALWAYS re-fetch rows fresh → prevents stale elements
-            List<WebElement> rows = safeFindAll(By.cssSelector("app-module-manager-list-view table tbody tr"));
+            List<WebElement> rows = safeFindAll(tableRows);
 
             for (int i = 0; i < rows.size(); i++) {
 
                 // Re-fetch row each time to avoid stale element
-                WebElement row = safeFindAll(By.cssSelector("app-module-manager-list-view table tbody tr")).get(i);
+                WebElement row = safeFindAll(tableRows).get(i);
 
                 boolean commissioned = isCommissioned(row);
                 String network = getNetworkStatus(row);
-                String normalized = network.toLowerCase();
 
-                // Now safely fetch the button fresh
-                WebElement button;
+                List<String> actualMenu;
                 try {
-                    button = safeFindWithin(row, By.cssSelector("td.cdk-column-action button.khebab_action"));
+                    actualMenu = readActionMenu(i);
                 } catch (Exception e) {
                     System.out.println("Could not find action button in row " + rowIndex + " — skipping row.");
                     rowIndex++;
                     continue;
                 }
 
-                List<String> actualMenu = openActionMenuAndGetItems(button);
-
-                // Retry once if empty (overlay hiccup)
-                if (actualMenu.isEmpty()) {
-                    wait.waitForSeconds(1);
-                    try {
-                        row = safeFindAll(By.cssSelector("app-module-manager-list-view table tbody tr")).get(i);
-                        button = safeFindWithin(row, By.cssSelector("td.cdk-column-action button.khebab_action"));
-                        actualMenu = openActionMenuAndGetItems(button);
-                    } catch (Exception ignored) {}
-                }
-
-                closeOverlay();
-
-                List<String> expected;
-
-                if (commissioned) {
-                    expected = Arrays.asList("Edit", "View Details", "Decommission", "Delete");
-                } else if (normalized.contains("online")) {
-                    expected = Arrays.asList("View Details", "Commission", "Delete");
-                } else {
-                    expected = Arrays.asList("View Details", "Delete");
-                }
+                List<String> expected = expectedActionMenu(commissioned, network);
 
                 if (!actualMenu.equals(expected)) {
                     System.out.println("\n ACTION MENU MISMATCH (Row " + rowIndex + ")");
@@ -1290,7 +1532,6 @@ public class ModuleOverviewPage extends BaseTest {
             if (!hasNextPage()) break;
 
             goToNextPage();
-            wait.waitForSeconds(1);
         }
 
         System.out.println("✔ ALL rows validated successfully.");
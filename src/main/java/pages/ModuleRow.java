@@ -0,0 +1,84 @@
+package pages;
+
+import java.util.Map;
+
+/**
+ * One row of the Module Overview list-view table, as read by a single bulk extraction.
+ * Cell values are whitespace-collapsed text; a null value means the cell (or the status
+ * indicator inside it) was not rendered.
+ */
+public record ModuleRow(
+        int page,
+        int index,
+        String name,
+        String nameClass,
+        String moduleIp,
+        String networkCell,
+        String networkText,
+        String networkClass,
+        String networkIcon,
+        String ioText,
+        String ioClass,
+        String ioIcon,
+        String lastSeen,
+        boolean hasAction
+) {
+
+    // Keys of the per-row maps returned by the table extraction script
+    static final String NAME = "name";
+    static final String NAME_CLASS = "nameClass";
+    static final String MODULE_IP = "moduleIp";
+    static final String NETWORK_CELL = "networkCell";
+    static final String NETWORK_TEXT = "networkText";
+    static final String NETWORK_CLASS = "networkClass";
+    static final String NETWORK_ICON = "networkIcon";
+    static final String IO_TEXT = "ioText";
+    static final String IO_CLASS = "ioClass";
+    static final String IO_ICON = "ioIcon";
+    static final String LAST_SEEN = "lastSeen";
+    static final String HAS_ACTION = "hasAction";
+
+    /** Build a row from one element of the extraction script result. */
+    static ModuleRow fromScriptResult(int page, int index, Map<String, Object> row) {
+        return new ModuleRow(
+                page,
+                index,
+                value(row, NAME),
+                value(row, NAME_CLASS),
+                value(row, MODULE_IP),
+                value(row, NETWORK_CELL),
+                value(row, NETWORK_TEXT),
+                value(row, NETWORK_CLASS),
+                value(row, NETWORK_ICON),
+                value(row, IO_TEXT),
+                value(row, IO_CLASS),
+                value(row, IO_ICON),
+                value(row, LAST_SEEN),
+                Boolean.TRUE.equals(row.get(HAS_ACTION))
+        );
+    }
+
+    private static String value(Map<String, Object> row, String key) {
+        Object value = row.get(key);
+        return value == null ? null : value.toString();
+    }
+
+    /** "commissioned", "uncommissioned" or "unknown", derived from the name span class. */
+    public String commissionState() {
+        String clazz = nameClass == null ? "" : nameClass.trim().toLowerCase();
+
+        if (clazz.equals("na")) return "commissioned";
+        if (clazz.equals("uncommissioned")) return "uncommissioned";
+
+        return "unknown";
+    }
+
+    public boolean isCommissioned() {
+        return commissionState().equals("commissioned");
+    }
+
+    /** Short label for log lines: page/row position plus module name. */
+    public String label() {
+        return "page " + page + " row " + (index + 1) + " (" + name + ")";
+    }
+}
@@ -0,0 +1,14 @@
+package pages;
+
+/**
+ * A single check applied to every row of a {@link ModuleTableSnapshot}.
+ * Rules may keep state across rows (e.g. uniqueness), so create a fresh instance per validation run.
+ */
+public interface ModuleRowRule {
+
+    /** Name shown in the validation report. */
+    String name();
+
+    /** @return null when the row passes, otherwise a description of the violation */
+    String check(ModuleRow row);
+}
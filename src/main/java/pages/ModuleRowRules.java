@@ -0,0 +1,231 @@
+package pages;
+
+import utils.LastSeenParser;
+import utils.LongHashSet;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Factories for the Module Overview column checks. Every call returns a fresh rule instance.
+ */
+public final class ModuleRowRules {
+
+    private ModuleRowRules() {
+        // Prevent instantiation
+    }
+
+    /** All column checks that make up a full fleet validation. */
+    public static List<ModuleRowRule> fleetRules() {
+        return List.of(
+                moduleNames(),
+                moduleIPs(),
+                networkStatus(),
+                ioStatus(),
+                lastSeenFormat(),
+                lastSeenVsNetworkStatus(),
+                commissionState()
+        );
+    }
+
+    // =========================
+    // Column rules
+    // =========================
+
+    /** Module name is not empty and not duplicated. */
+    public static ModuleRowRule moduleNames() {
+        LongHashSet nameFingerprints = new LongHashSet();
+
+        return rule("Module Name", row -> {
+            String name = text(row.name());
+
+            if (name.isEmpty()) return "Empty module name found!";
+            if (!nameFingerprints.add(LongHashSet.fingerprint(name))) return "Duplicate module name found: " + name;
+            return null;
+        });
+    }
+
+    /** Module IP is a unique 4-digit number. */
+    public static ModuleRowRule moduleIPs() {
+        // 4-digit IPs are 0000-9999: one bit each
+        BitSet seenIps = new BitSet(10_000);
+
+        return rule("Module IP", row -> {
+            String ip = text(row.moduleIp());
+
+            if (ip.equalsIgnoreCase("unknown") || ip.isBlank()) return "Invalid Module IP found: '" + ip + "'";
+            if (!isAllDigits(ip)) return "Non-numeric Module IP found: " + ip;
+            if (ip.length() != 4) return "Module IP not 4 digits: " + ip;
+
+            int value = (ip.charAt(0) - '0') * 1000 + (ip.charAt(1) - '0') * 100
+                    + (ip.charAt(2) - '0') * 10 + (ip.charAt(3) - '0');
+            if (seenIps.get(value)) return "Duplicate Module IP detected: " + ip;
+            seenIps.set(value);
+            return null;
+        });
+    }
+
+    /** Network status text agrees with the indicator class and icon. */
+    public static ModuleRowRule networkStatus() {
+        return rule("Network Status", row -> {
+            if (row.networkText() == null) return "No network status indicator found";
+            if (row.networkClass() == null) return "Could not extract internal status div class.";
+
+            String text = text(row.networkText()).toLowerCase();
+
+            switch (text) {
+                case "online":   return indicatorMismatch(row.networkClass(), row.networkIcon(), "healthy", "online");
+                case "degraded": return indicatorMismatch(row.networkClass(), row.networkIcon(), "degraded", "degraded");
+                case "offline":  return indicatorMismatch(row.networkClass(), row.networkIcon(), "faulty", "offline");
+                case "pending":  return indicatorMismatch(row.networkClass(), row.networkIcon(), "pending", "pending");
+                default:         return "INVALID NETWORK STATUS FOUND: " + text;
+            }
+        });
+    }
+
+    /** I/O status text agrees with the indicator class and icon. */
+    public static ModuleRowRule ioStatus() {
+        return rule("I/O Status", row -> {
+            if (row.ioText() == null) return null;
+            if (row.ioClass() == null) return "Could not extract I/O status class.";
+
+            String text = text(row.ioText()).toLowerCase();
+
+            switch (text) {
+                case "healthy": return indicatorMismatch(row.ioClass(), row.ioIcon(), "healthy", "healthy");
+                case "pending": return indicatorMismatch(row.ioClass(), row.ioIcon(), "pending", "pending");
+                case "faulty":  return indicatorMismatch(row.ioClass(), row.ioIcon(), "faulty", "faulty");
+                default:        return "INVALID I/O STATUS FOUND: " + text;
+            }
+        });
+    }
+
+    /** Last seen is a format LastSeenParser understands: now, yesterday, a minute ago, X minutes/hours/days ago, ... */
+    public static ModuleRowRule lastSeenFormat() {
+        return rule("Last Seen", row -> {
+            String text = text(row.lastSeen()).toLowerCase();
+
+            if (text.isEmpty()) return "EMPTY Last seen value detected!";
+            if (LastSeenParser.parse(text) == null) return "INVALID last seen format detected: " + text;
+            return null;
+        });
+    }
+
+    /** Seen less than the offline threshold ago must be online; anything older must be offline. */
+    public static ModuleRowRule lastSeenVsNetworkStatus() {
+        Duration offlineThreshold = LastSeenParser.offlineThreshold();
+
+        return rule("Last Seen ↔ Network Status", row -> {
+            if (row.lastSeen() == null || row.networkCell() == null) {
+                return "Column row count mismatch — cannot validate!";
+            }
+
+            String lastSeenText = row.lastSeen().toLowerCase();
+            String networkStatusText = row.networkCell().toLowerCase();
+
+            // unparseable values are reported by the Last Seen format rule
+            Duration age = LastSeenParser.parse(lastSeenText);
+            if (age == null) return null;
+
+            boolean shouldBeOnline = age.compareTo(offlineThreshold) < 0;
+
+            if (shouldBeOnline && !networkStatusText.contains("online")) {
+                return "Last seen = " + lastSeenText + " → EXPECTED ONLINE but got: " + networkStatusText;
+            }
+            if (!shouldBeOnline && !networkStatusText.contains("offline")) {
+                return "Last seen = " + lastSeenText + " → EXPECTED OFFLINE but got: " + networkStatusText;
+            }
+            return null;
+        });
+    }
+
+    /** Every row is either commissioned or uncommissioned. */
+    public static ModuleRowRule commissionState() {
+        return rule("Commission", row -> row.commissionState().equals("unknown")
+                ? "Could not determine commission state"
+                : null);
+    }
+
+    // =========================
+    // Filter rules
+    // =========================
+
+    /** Network status cell contains the expected status (online / offline / pending / degraded). */
+    public static ModuleRowRule networkFilter(String expectedStatus) {
+        String expected = expectedStatus.toLowerCase();
+
+        return rule("Network Filter", row -> {
+            String text = text(row.networkCell()).toLowerCase();
+            return text.contains(expected) ? null : "Expected: " + expected + ", Found: " + text;
+        });
+    }
+
+    /** I/O status contains the expected status (healthy / faulty / pending). */
+    public static ModuleRowRule ioFilter(String expectedStatus) {
+        String expected = expectedStatus.toLowerCase();
+
+        return rule("I/O Filter", row -> {
+            if (row.ioText() == null) return null;
+
+            String text = text(row.ioText()).toLowerCase();
+            return text.contains(expected) ? null : "Expected: " + expected + " | Found: " + text;
+        });
+    }
+
+    /** Commission state matches the "All" dropdown value (All / Commissioned / Uncommissioned). */
+    public static ModuleRowRule commissionFilter(String filterValue) {
+        String filter = filterValue.toLowerCase();
+
+        return rule("All Filter", row -> {
+            String state = row.commissionState();
+
+            switch (filter) {
+                case "all":
+                    return null;
+                case "commissioned":
+                case "uncommissioned":
+                    return state.equals(filter) ? null : "Expected " + filter + " but found: " + state;
+                default:
+                    return "Invalid filter type: " + filterValue;
+            }
+        });
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static String indicatorMismatch(String classes, String iconSrc, String expectedClass, String expectedIcon) {
+        if (!classes.contains(expectedClass)) return "Indicator class '" + classes + "' missing '" + expectedClass + "'";
+        if (iconSrc == null || !iconSrc.contains(expectedIcon)) return "Indicator icon '" + iconSrc + "' missing '" + expectedIcon + "'";
+        return null;
+    }
+
+    private static boolean isAllDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < '0' || ch > '9') return false;
+        }
+        return true;
+    }
+
+    private static String text(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    private static ModuleRowRule rule(String name, Function<ModuleRow, String> check) {
+        return new ModuleRowRule() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String check(ModuleRow row) {
+                return check.apply(row);
+            }
+        };
+    }
+}
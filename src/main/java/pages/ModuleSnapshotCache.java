@@ -0,0 +1,55 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-driver cache of Module Overview snapshots, keyed on the visible filter state.
+ * Entries are dropped whenever a filter is applied or reset, and disappear with the driver.
+ */
+final class ModuleSnapshotCache {
+
+    private static final Map<WebDriver, Map<String, ModuleTableSnapshot>> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ModuleSnapshotCache() {
+        // Prevent instantiation
+    }
+
+    static ModuleTableSnapshot get(WebDriver driver, String key) {
+        synchronized (CACHE) {
+            Map<String, ModuleTableSnapshot> entries = CACHE.get(driver);
+            return entries == null ? null : entries.get(key);
+        }
+    }
+
+    static void put(WebDriver driver, String key, ModuleTableSnapshot snapshot) {
+        synchronized (CACHE) {
+            CACHE.computeIfAbsent(driver, d -> new HashMap<>()).put(key, snapshot);
+        }
+    }
+
+    static void invalidate(WebDriver driver) {
+        CACHE.remove(driver);
+    }
+
+    /**
+     * Cache key from the three filter dropdown labels and the paginator range text.
+     * Only the total part of the range ("of 250") is kept, so the key is the same on every page.
+     * The document id (performance.timeOrigin) changes on every full page load, so a reused
+     * browser never serves a snapshot from an earlier test.
+     */
+    static String key(String documentId, List<String> filterLabels, String rangeText) {
+        String range = rangeText == null ? "" : rangeText.trim().toLowerCase();
+        int of = range.lastIndexOf("of");
+        if (of >= 0) {
+            range = range.substring(of);
+        }
+        return documentId + "@" + String.join("|", filterLabels).toLowerCase() + "#" + range;
+    }
+}
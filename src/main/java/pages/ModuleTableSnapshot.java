@@ -0,0 +1,57 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable copy of the Module Overview table across all pages, captured in one pagination walk.
+ */
+public final class ModuleTableSnapshot {
+
+    private final List<List<ModuleRow>> pages;
+    private final List<ModuleRow> rows;
+
+    private ModuleTableSnapshot(List<List<ModuleRow>> pages) {
+        List<List<ModuleRow>> pageCopies = new ArrayList<>(pages.size());
+        List<ModuleRow> allRows = new ArrayList<>();
+
+        for (List<ModuleRow> page : pages) {
+            pageCopies.add(List.copyOf(page));
+            allRows.addAll(page);
+        }
+
+        this.pages = Collections.unmodifiableList(pageCopies);
+        this.rows = Collections.unmodifiableList(allRows);
+    }
+
+    /** Snapshot of the given pages, in paginator order. */
+    public static ModuleTableSnapshot of(List<List<ModuleRow>> pages) {
+        return new ModuleTableSnapshot(pages);
+    }
+
+    public List<ModuleRow> rows() {
+        return rows;
+    }
+
+    public List<ModuleRow> page(int pageNumber) {
+        return pages.get(pageNumber - 1);
+    }
+
+    public int pageCount() {
+        return pages.size();
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public Stream<ModuleRow> stream() {
+        return rows.stream();
+    }
+}
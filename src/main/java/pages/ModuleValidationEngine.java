@@ -0,0 +1,84 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs any number of {@link ModuleRowRule}s over the module rows in a single streaming pass.
+ * Rows can be fed one at a time with {@link #accept(ModuleRow)} or all at once with {@link #run}.
+ * Not thread-safe: feed it from one thread at a time (e.g. a single-threaded worker).
+ */
+public class ModuleValidationEngine {
+
+    private final List<ModuleRowRule> rules;
+    private final Map<String, List<String>> violations = new LinkedHashMap<>();
+    private int rowsChecked;
+
+    public ModuleValidationEngine(List<ModuleRowRule> rules) {
+        this.rules = List.copyOf(rules);
+        for (ModuleRowRule rule : this.rules) {
+            violations.put(rule.name(), new ArrayList<>());
+        }
+    }
+
+    /** Validate a whole snapshot with the given rules. */
+    public static Report run(ModuleTableSnapshot snapshot, List<ModuleRowRule> rules) {
+        ModuleValidationEngine engine = new ModuleValidationEngine(rules);
+        snapshot.stream().forEach(engine::accept);
+        return engine.report();
+    }
+
+    public void accept(ModuleRow row) {
+        rowsChecked++;
+
+        for (ModuleRowRule rule : rules) {
+            String violation = rule.check(row);
+            if (violation != null) {
+                violations.get(rule.name()).add(row.label() + ": " + violation);
+            }
+        }
+    }
+
+    public void acceptAll(List<ModuleRow> rows) {
+        for (ModuleRow row : rows) {
+            accept(row);
+        }
+    }
+
+    public Report report() {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        violations.forEach((rule, list) -> copy.put(rule, List.copyOf(list)));
+        return new Report(rowsChecked, copy);
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    public record Report(int rowsChecked, Map<String, List<String>> violationsByRule) {
+
+        public boolean passed() {
+            return violationsByRule.values().stream().allMatch(List::isEmpty);
+        }
+
+        public boolean passed(String ruleName) {
+            List<String> list = violationsByRule.get(ruleName);
+            return list == null || list.isEmpty();
+        }
+
+        public void print() {
+            System.out.println(" Rows checked = " + rowsChecked);
+
+            violationsByRule.forEach((rule, list) -> {
+                if (list.isEmpty()) {
+                    System.out.println("✔ " + rule + ": OK");
+                } else {
+                    System.out.println(" " + rule + ": " + list.size() + " violation(s)");
+                    list.forEach(v -> System.out.println("   MISMATCH → " + v));
+                }
+            });
+        }
+    }
+}
@@ -2,6 +2,7 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import utils.PagePerformance;
 import utils.UIHelpers;
 import utils.WaitUtils;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -48,8 +49,10 @@ public class SystemConfigurationPage {
                     ExpectedConditions.visibilityOfElementLocated(serialPortSection),
                     ExpectedConditions.visibilityOfElementLocated(systemResetSection)
             ));
+            wait.waitForAngularStable();
 
             System.out.println("✔ System Configuration page loaded successfully.");
+            PagePerformance.capture(driver, "System Configuration");
 
         } catch (Exception e) {
             System.out.println(" FAILED: System Configuration page did NOT load properly.");
@@ -0,0 +1,170 @@
+package utils;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Regression gate on WebDriver command count and wall time per test method.
+ *
+ * commandGate.mode:
+ *   off    → nothing (default)
+ *   warn   → print a warning when a test exceeds its baseline by more than the tolerance
+ *   fail   → same, but fail the test
+ *   record → write the measured values to the baseline file at the end of the run
+ *
+ * Baseline keys are "&lt;test class&gt;.&lt;method&gt;.commands" and "...wallMs". Tolerances are
+ * commandGate.tolerancePercent (commands, default 10) and commandGate.wallTolerancePercent (default 50).
+ */
+public final class CommandBaseline {
+
+    public enum Mode { OFF, WARN, FAIL, RECORD }
+
+    private static final String DEFAULT_BASELINE_FILE = "src/test/resources/command-baseline.properties";
+    private static final int DEFAULT_TOLERANCE_PERCENT = 10;
+    private static final int DEFAULT_WALL_TOLERANCE_PERCENT = 50;
+
+    private static Properties baseline;
+    private static final Map<String, Long> recorded = new TreeMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(CommandBaseline::writeRecorded));
+    }
+
+    private CommandBaseline() {
+        // Prevent instantiation
+    }
+
+    public static Mode mode() {
+        String configured = PropertyReader.get("commandGate.mode");
+        return configured == null || configured.isBlank() ? Mode.OFF : Mode.valueOf(configured.trim().toUpperCase());
+    }
+
+    /** The gate needs command counts, so an active gate also instruments the driver. */
+    public static boolean isActive() {
+        return mode() != Mode.OFF;
+    }
+
+    /**
+     * Compare (or record) one finished test.
+     * @throws AssertionError in fail mode when the test is over its baseline
+     */
+    public static void check(String testId, long commands, long wallMs) {
+        Mode mode = mode();
+        if (mode == Mode.OFF) return;
+
+        if (mode == Mode.RECORD) {
+            synchronized (recorded) {
+                recorded.put(testId + ".commands", commands);
+                recorded.put(testId + ".wallMs", wallMs);
+            }
+            System.out.println("✔ Recorded baseline for " + testId + ": " + commands + " commands, " + wallMs + " ms");
+            return;
+        }
+
+        Long expectedCommands = baselineValue(testId + ".commands");
+        Long expectedWall = baselineValue(testId + ".wallMs");
+
+        if (expectedCommands == null && expectedWall == null) {
+            System.out.println("⚠ No command baseline for " + testId + " — run with commandGate.mode=record to add it.");
+            return;
+        }
+
+        StringBuilder regressions = new StringBuilder();
+        over(regressions, "commands", commands, expectedCommands, tolerance("commandGate.tolerancePercent", DEFAULT_TOLERANCE_PERCENT));
+        over(regressions, "wall time (ms)", wallMs, expectedWall, tolerance("commandGate.wallTolerancePercent", DEFAULT_WALL_TOLERANCE_PERCENT));
+
+        if (regressions.length() == 0) {
+            System.out.println("✔ " + testId + " within baseline: " + commands + " commands, " + wallMs + " ms");
+            return;
+        }
+
+        String message = testId + " exceeded its baseline:" + regressions;
+        if (mode == Mode.FAIL) {
+            Assertions.fail(message);
+        }
+        System.out.println("⚠ " + message);
+    }
+
+    private static void over(StringBuilder regressions, String label, long actual, Long expected, int tolerancePercent) {
+        if (expected == null) return;
+
+        long limit = expected + expected * tolerancePercent / 100;
+        if (actual > limit) {
+            regressions.append("\n   ").append(label).append(" = ").append(actual)
+                    .append(" (baseline ").append(expected).append(" + ").append(tolerancePercent).append("% = ")
+                    .append(limit).append(")");
+        }
+    }
+
+    private static int tolerance(String key, int defaultPercent) {
+        String configured = PropertyReader.get(key);
+        return configured == null || configured.isBlank() ? defaultPercent : Integer.parseInt(configured.trim());
+    }
+
+    // =========================
+    // Baseline file
+    // =========================
+
+    private static Path baselineFile() {
+        String configured = PropertyReader.get("commandGate.baseline");
+        return Paths.get(configured == null || configured.isBlank() ? DEFAULT_BASELINE_FILE : configured.trim());
+    }
+
+    private static synchronized Long baselineValue(String key) {
+        if (baseline == null) {
+            baseline = load(baselineFile());
+        }
+        String value = baseline.getProperty(key);
+        return value == null || value.isBlank() ? null : Long.parseLong(value.trim());
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (!Files.exists(file)) return properties;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("⚠ Could not read command baseline " + file + ": " + e.getMessage());
+        }
+        return properties;
+    }
+
+    // record mode: merge this run into the file, one sorted key per line
+    private static void writeRecorded() {
+        synchronized (recorded) {
+            if (recorded.isEmpty()) return;
+
+            Path file = baselineFile();
+            Map<String, String> merged = new TreeMap<>();
+            load(file).forEach((k, v) -> merged.put(String.valueOf(k), String.valueOf(v)));
+            recorded.forEach((k, v) -> merged.put(k, String.valueOf(v)));
+
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+
+                try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    out.write("# WebDriver command count / wall time baseline per test (commandGate.mode=record)");
+                    out.newLine();
+                    for (Map.Entry<String, String> entry : merged.entrySet()) {
+                        out.write(entry.getKey() + "=" + entry.getValue());
+                        out.newLine();
+                    }
+                }
+                System.out.println("✔ Command baseline written: " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.out.println("⚠ Could not write command baseline " + file + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts and times every WebDriver / WebElement call made through an instrumented driver.
+ *
+ * Enabled with driver.instrument=true (see DriverFactory). Each call is recorded per command type
+ * (e.g. "WebDriver.findElements") with a latency histogram, and attributed to the outermost
+ * page-object method on the stack (e.g. "ModuleOverviewPage.validateNetworkStatus").
+ */
+public class CommandMetrics implements WebDriverListener {
+
+    // histogram bucket upper bounds in ms; the last bucket is "slower than 5000"
+    private static final long[] BUCKET_LIMITS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    private static final int TOP_CALLERS = 15;
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private static final Map<WebDriver, CommandMetrics> registry =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Stats> byCommand = new ConcurrentHashMap<>();
+    private final Map<String, Stats> byCaller = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final class Stats {
+        long count;
+        long errors;
+        long totalNanos;
+        long maxNanos;
+        final long[] buckets = new long[BUCKET_LIMITS_MS.length + 1];
+
+        synchronized void record(long nanos, boolean error) {
+            count++;
+            if (error) errors++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+
+            long ms = nanos / 1_000_000;
+            int bucket = 0;
+            while (bucket < BUCKET_LIMITS_MS.length && ms > BUCKET_LIMITS_MS[bucket]) bucket++;
+            buckets[bucket]++;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(PropertyReader.get("driver.instrument"));
+    }
+
+    /** Wrap the driver so every call goes through a new CommandMetrics listener. */
+    public static WebDriver instrument(WebDriver driver) {
+        CommandMetrics metrics = new CommandMetrics();
+        WebDriver decorated = new EventFiringDecorator<>(metrics).decorate(driver);
+        registry.put(decorated, metrics);
+        return decorated;
+    }
+
+    /** @return the metrics of an instrumented driver, or null if it is not instrumented */
+    public static CommandMetrics of(WebDriver driver) {
+        return driver == null ? null : registry.get(driver);
+    }
+
+    public void reset() {
+        byCommand.clear();
+        byCaller.clear();
+    }
+
+    /** Number of calls recorded since the last reset. */
+    public long totalCommands() {
+        long commands = 0;
+        for (Stats stats : byCommand.values()) {
+            synchronized (stats) {
+                commands += stats.count;
+            }
+        }
+        return commands;
+    }
+
+    // =========================
+    // Listener
+    // =========================
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method, true);
+    }
+
+    private void record(Method method, boolean error) {
+        Long start = startTimes.get().poll();
+        if (start == null) return;
+
+        long nanos = System.nanoTime() - start;
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        byCommand.computeIfAbsent(command, c -> new Stats()).record(nanos, error);
+        byCaller.computeIfAbsent(caller(), c -> new Stats()).record(nanos, error);
+    }
+
+    // outermost pages.* frame; without one, the first test / base / utils frame
+    private static String caller() {
+        return STACK.walk(frames -> {
+            String pageMethod = null;
+            String fallback = null;
+
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = frame.getClassName();
+
+                if (cls.startsWith("pages.")) {
+                    pageMethod = label(frame);
+                } else if (fallback == null && !cls.equals(CommandMetrics.class.getName())
+                        && (cls.startsWith("tests.") || cls.startsWith("base.") || cls.startsWith("utils."))) {
+                    fallback = label(frame);
+                }
+            }
+
+            if (pageMethod != null) return pageMethod;
+            return fallback == null ? "(other)" : fallback;
+        });
+    }
+
+    // "pages.ModuleOverviewPage$Shard" / "lambda$captureSnapshot$3" → "ModuleOverviewPage.captureSnapshot"
+    private static String label(StackWalker.StackFrame frame) {
+        String cls = frame.getClassName();
+        cls = cls.substring(cls.lastIndexOf('.') + 1);
+        if (cls.contains("$")) cls = cls.substring(0, cls.indexOf('$'));
+
+        String methodName = frame.getMethodName();
+        if (methodName.startsWith("lambda$")) {
+            String[] parts = methodName.split("\\$");
+            if (parts.length > 1) methodName = parts[1];
+        }
+        return cls + "." + methodName;
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    public String summary() {
+        long commands = 0;
+        long nanos = 0;
+        for (Stats stats : byCommand.values()) {
+            synchronized (stats) {
+                commands += stats.count;
+                nanos += stats.totalNanos;
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("WebDriver commands: ").append(commands)
+                .append(" | time in driver: ").append(ms(nanos)).append(" ms\n");
+
+        out.append("\n=== BY COMMAND (slowest first) ===\n");
+        out.append(String.format("%-40s %7s %6s %9s %8s %8s  %s%n",
+                "command", "count", "errors", "total ms", "avg ms", "max ms", "histogram (ms)"));
+        for (Map.Entry<String, Stats> entry : sortedByTime(byCommand)) {
+            Stats s = entry.getValue();
+            synchronized (s) {
+                out.append(String.format("%-40s %7d %6d %9d %8.1f %8d  %s%n",
+                        entry.getKey(), s.count, s.errors, ms(s.totalNanos),
+                        s.totalNanos / 1e6 / s.count, ms(s.maxNanos), histogram(s)));
+            }
+        }
+
+        out.append("\n=== BY PAGE-OBJECT METHOD (slowest first) ===\n");
+        out.append(String.format("%-55s %7s %9s %8s%n", "caller", "count", "total ms", "avg ms"));
+        List<Map.Entry<String, Stats>> callers = sortedByTime(byCaller);
+        for (Map.Entry<String, Stats> entry : callers.subList(0, Math.min(TOP_CALLERS, callers.size()))) {
+            Stats s = entry.getValue();
+            synchronized (s) {
+                out.append(String.format("%-55s %7d %9d %8.1f%n",
+                        entry.getKey(), s.count, ms(s.totalNanos), s.totalNanos / 1e6 / s.count));
+            }
+        }
+
+        out.append("\n=== CHATTIEST PAGE-OBJECT METHODS ===\n");
+        callers.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().count).reversed());
+        for (Map.Entry<String, Stats> entry : callers.subList(0, Math.min(5, callers.size()))) {
+            out.append(String.format("%-55s %7d commands%n", entry.getKey(), entry.getValue().count));
+        }
+
+        return out.toString();
+    }
+
+    private static List<Map.Entry<String, Stats>> sortedByTime(Map<String, Stats> stats) {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().totalNanos).reversed());
+        return entries;
+    }
+
+    private static String histogram(Stats stats) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < stats.buckets.length; i++) {
+            if (stats.buckets[i] == 0) continue;
+
+            String bucket = i < BUCKET_LIMITS_MS.length ? "≤" + BUCKET_LIMITS_MS[i] : ">" + BUCKET_LIMITS_MS[i - 1];
+            if (out.length() > 0) out.append(' ');
+            out.append(bucket).append(':').append(stats.buckets[i]);
+        }
+        return out.toString();
+    }
+
+    private static long ms(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -1,4 +1,277 @@
 package utils;
 
-public class DataUtils {
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic synthetic module fleets, for the stand-in controller and for scale tests.
+ *
+ * Every module is derived from (seed, index) alone, so a fleet is never held in memory: it is streamed,
+ * and any module can be produced directly. The same seed, size and profile always give the same fleet.
+ * {@link #oracle} walks the fleet once and returns what each Module Overview validator should report.
+ */
+public final class DataUtils {
+
+    /** Module IPs are 4 digits: 0000-9999. Fleets larger than this necessarily repeat IPs. */
+    public static final int IP_SPACE = 10_000;
+
+    // coprime with IP_SPACE → index * IP_STRIDE visits every IP once per 10,000 modules, in shuffled order
+    private static final int IP_STRIDE = 7_919;
+
+    private DataUtils() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Percentages for the generated statuses. Network: online / degraded / pending, the rest offline.
+     * I/O: faulty / pending, the rest healthy. Commissioned: share of commissioned modules.
+     */
+    public record Profile(int onlinePercent, int degradedPercent, int pendingPercent,
+                          int ioFaultyPercent, int ioPendingPercent, int commissionedPercent) {
+
+        /** Only online and offline modules, so every fleet validator passes. */
+        public static final Profile DEFAULT = new Profile(70, 0, 0, 20, 10, 60);
+
+        public Profile {
+            for (int percent : new int[]{onlinePercent, degradedPercent, pendingPercent,
+                    ioFaultyPercent, ioPendingPercent, commissionedPercent}) {
+                if (percent < 0 || percent > 100) throw new IllegalArgumentException("Percentage out of range: " + percent);
+            }
+            if (onlinePercent + degradedPercent + pendingPercent > 100 || ioFaultyPercent + ioPendingPercent > 100) {
+                throw new IllegalArgumentException("Network or I/O percentages add up to more than 100");
+            }
+        }
+    }
+
+    /**
+     * One generated module. network is online / offline / degraded / pending, io is healthy / faulty / pending,
+     * lastSeen is the text the UI shows for lastSeenAge.
+     */
+    public record Module(int index, String name, String ip, String network, String io,
+                         boolean commissioned, Duration lastSeenAge, String lastSeen) {
+    }
+
+    // =========================
+    // Generation
+    // =========================
+
+    public static Stream<Module> fleet(long seed, int size) {
+        return fleet(seed, size, Profile.DEFAULT);
+    }
+
+    /** The fleet as a lazy stream: modules are generated as they are consumed. */
+    public static Stream<Module> fleet(long seed, int size, Profile profile) {
+        if (size < 0) throw new IllegalArgumentException("Fleet size must not be negative: " + size);
+        return IntStream.range(0, size).mapToObj(index -> module(seed, index, profile));
+    }
+
+    /** Module number {@code index} of every fleet with this seed and profile. */
+    public static Module module(long seed, int index, Profile profile) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+
+        int networkRoll = random.nextInt(100);
+        String network;
+        if (networkRoll < profile.onlinePercent()) {
+            network = "online";
+        } else if (networkRoll < profile.onlinePercent() + profile.degradedPercent()) {
+            network = "degraded";
+        } else if (networkRoll < profile.onlinePercent() + profile.degradedPercent() + profile.pendingPercent()) {
+            network = "pending";
+        } else {
+            network = "offline";
+        }
+
+        int ioRoll = random.nextInt(100);
+        String io = ioRoll < profile.ioFaultyPercent() ? "faulty"
+                : ioRoll < profile.ioFaultyPercent() + profile.ioPendingPercent() ? "pending" : "healthy";
+
+        boolean commissioned = random.nextInt(100) < profile.commissionedPercent();
+
+        // online → seen now; everything else has been silent for a minute to a month
+        Duration age = network.equals("online") ? Duration.ZERO : silentFor(random);
+
+        return new Module(index,
+                "SD-" + zeroPadded(index + 1, 5),
+                zeroPadded((int) ((long) index * IP_STRIDE % IP_SPACE), 4),
+                network, io, commissioned, age, lastSeenText(age));
+    }
+
+    // String.format is the slowest part of generating a module
+    private static String zeroPadded(int value, int width) {
+        String digits = Integer.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static Duration silentFor(SplittableRandom random) {
+        int unit = random.nextInt(100);
+        if (unit < 40) return Duration.ofMinutes(1 + random.nextInt(59));
+        if (unit < 75) return Duration.ofHours(1 + random.nextInt(23));
+        return Duration.ofDays(1 + random.nextInt(30));
+    }
+
+    /** The UI text for a last-seen age; {@link LastSeenParser#parse} turns it back into the same age. */
+    public static String lastSeenText(Duration age) {
+        long days = age.toDays();
+        long hours = age.toHours();
+        long minutes = age.toMinutes();
+
+        if (days > 1) return days + " days ago";
+        if (days == 1) return "yesterday";
+        if (hours > 1) return hours + " hours ago";
+        if (hours == 1) return "an hour ago";
+        if (minutes > 1) return minutes + " minutes ago";
+        if (minutes == 1) return "a minute ago";
+        return "now";
+    }
+
+    // =========================
+    // Oracles
+    // =========================
+
+    /**
+     * Expected results for a generated fleet, per ModuleOverviewPage validator.
+     * Counts are modules (rows); "violations" are the rows the matching ModuleRowRules rule reports.
+     */
+    public record FleetOracle(
+            long seed,
+            int size,
+            Map<String, Integer> networkCounts,
+            Map<String, Integer> ioCounts,
+            int commissioned,
+            int duplicateIps,
+            int lastSeenViolations,
+            Map<String, Integer> actionMenuCounts
+    ) {
+
+        /** countAllModules() and the dashboard total. */
+        public int totalModules() {
+            return size;
+        }
+
+        public int uncommissioned() {
+            return size - commissioned;
+        }
+
+        /** Rows left by validateNetworkFilterResults(): Connected / Disconnected / Pending / Degraded. */
+        public int expectedNetworkFilterRows(String filterValue) {
+            switch (filterValue.toLowerCase()) {
+                case "connected": return networkCounts.get("online");
+                case "disconnected": return networkCounts.get("offline");
+                case "pending": return networkCounts.get("pending");
+                case "degraded": return networkCounts.get("degraded");
+                default: throw new IllegalArgumentException("Unknown network filter: " + filterValue);
+            }
+        }
+
+        /** Rows left by validateIOFilterResults(): Healthy / Faulty / Pending. */
+        public int expectedIoFilterRows(String filterValue) {
+            Integer count = ioCounts.get(filterValue.toLowerCase());
+            if (count == null) throw new IllegalArgumentException("Unknown I/O filter: " + filterValue);
+            return count;
+        }
+
+        /** Rows left by validateAllFilterResults(): All / Commissioned / Uncommissioned. */
+        public int expectedAllFilterRows(String filterValue) {
+            switch (filterValue.toLowerCase()) {
+                case "all": return size;
+                case "commissioned": return commissioned;
+                case "uncommissioned": return uncommissioned();
+                default: throw new IllegalArgumentException("Unknown All filter: " + filterValue);
+            }
+        }
+
+        /** Names are unique by construction. */
+        public boolean moduleNamesPass() {
+            return true;
+        }
+
+        public boolean moduleIpsPass() {
+            return duplicateIps == 0;
+        }
+
+        /** Indicator class and icon always match the status text. */
+        public boolean networkStatusPass() {
+            return true;
+        }
+
+        public boolean ioStatusPass() {
+            return true;
+        }
+
+        /** Every generated last-seen text is a format LastSeenParser accepts. */
+        public boolean lastSeenValuesPass() {
+            return true;
+        }
+
+        public boolean lastSeenVsNetworkStatusPass() {
+            return lastSeenViolations == 0;
+        }
+
+        /** validateFleet(): all of the above in one pass. */
+        public boolean fleetPass() {
+            return moduleNamesPass() && moduleIpsPass() && networkStatusPass() && ioStatusPass()
+                    && lastSeenValuesPass() && lastSeenVsNetworkStatusPass();
+        }
+
+        public String summary() {
+            return "Fleet seed=" + seed + " size=" + size
+                    + "\n network " + networkCounts + " | io " + ioCounts
+                    + "\n commissioned " + commissioned + " | uncommissioned " + uncommissioned()
+                    + "\n duplicate IPs " + duplicateIps + " | last seen ↔ network mismatches " + lastSeenViolations
+                    + "\n action menus " + actionMenuCounts
+                    + "\n fleet validation expected to " + (fleetPass() ? "PASS" : "FAIL");
+        }
+    }
+
+    public static FleetOracle oracle(long seed, int size, Profile profile) {
+        return oracle(seed, size, profile, LastSeenParser.offlineThreshold());
+    }
+
+    /** One streaming pass over the fleet; memory use does not depend on its size. */
+    public static FleetOracle oracle(long seed, int size, Profile profile, Duration offlineThreshold) {
+        Map<String, Integer> network = counter("online", "offline", "degraded", "pending");
+        Map<String, Integer> io = counter("healthy", "faulty", "pending");
+        Map<String, Integer> actionMenus = counter("commissioned", "uncommissioned online", "uncommissioned other");
+
+        int commissioned = 0;
+        int lastSeenViolations = 0;
+
+        for (int index = 0; index < size; index++) {
+            Module m = module(seed, index, profile);
+
+            network.merge(m.network(), 1, Integer::sum);
+            io.merge(m.io(), 1, Integer::sum);
+            if (m.commissioned()) commissioned++;
+
+            // same decision as ModuleRowRules.lastSeenVsNetworkStatus
+            boolean shouldBeOnline = m.lastSeenAge().compareTo(offlineThreshold) < 0;
+            if (!m.network().equals(shouldBeOnline ? "online" : "offline")) lastSeenViolations++;
+
+            String menu = m.commissioned() ? "commissioned"
+                    : m.network().equals("online") ? "uncommissioned online" : "uncommissioned other";
+            actionMenus.merge(menu, 1, Integer::sum);
+        }
+
+        // index i and i + IP_SPACE share an IP, so everything past the first 10,000 is a repeat
+        int duplicateIps = Math.max(0, size - IP_SPACE);
+
+        return new FleetOracle(seed, size,
+                Collections.unmodifiableMap(network),
+                Collections.unmodifiableMap(io),
+                commissioned, duplicateIps, lastSeenViolations,
+                Collections.unmodifiableMap(actionMenus));
+    }
+
+    private static Map<String, Integer> counter(String... keys) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String key : keys) {
+            counts.put(key, 0);
+        }
+        return counts;
+    }
 }
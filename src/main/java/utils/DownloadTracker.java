@@ -0,0 +1,185 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Follows Chrome downloads through CDP Browser.downloadWillBegin / Browser.downloadProgress events,
+ * so a download is picked up the moment the browser reports it "completed" (no directory polling).
+ *
+ * While tracking, Chrome saves each download under its GUID; on completion the file is renamed to
+ * the suggested filename and the GUID → filename mapping is kept in {@link #getDownloads()}.
+ *
+ * The browser has a single DevTools connection, shared with e.g. TrafficArchive's interceptor. The download
+ * listeners are therefore added once per connection and hand events to whichever tracker is active;
+ * close() only detaches the tracker and never touches listeners it does not own.
+ */
+public class DownloadTracker implements AutoCloseable {
+
+    @SuppressWarnings("unchecked")
+    private static final Event<Map<String, Object>> DOWNLOAD_WILL_BEGIN =
+            new Event<>("Browser.downloadWillBegin", input -> (Map<String, Object>) input.read(Json.MAP_TYPE));
+
+    @SuppressWarnings("unchecked")
+    private static final Event<Map<String, Object>> DOWNLOAD_PROGRESS =
+            new Event<>("Browser.downloadProgress", input -> (Map<String, Object>) input.read(Json.MAP_TYPE));
+
+    // DevTools connection → the tracker its download listeners currently report to
+    private static final Map<DevTools, AtomicReference<DownloadTracker>> activeTrackers = new WeakHashMap<>();
+
+    private final DevTools devTools;
+    private final File downloadDir;
+
+    private final Map<String, String> guidToFilename = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<File>> completions = new ConcurrentHashMap<>();
+
+    private DownloadTracker(WebDriver driver, File downloadDir) {
+        this.devTools = ((HasDevTools) driver).getDevTools();
+        this.downloadDir = downloadDir;
+    }
+
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /** Open a CDP session and start receiving download events for downloads into downloadDir. */
+    public static DownloadTracker start(WebDriver driver, File downloadDir) {
+        DownloadTracker tracker = new DownloadTracker(driver, downloadDir);
+        tracker.listen();
+        return tracker;
+    }
+
+    private void listen() {
+        devTools.createSessionIfThereIsNotOne();
+        active(devTools).set(this);
+
+        devTools.send(new Command<Void>("Browser.setDownloadBehavior", Map.of(
+                "behavior", "allowAndName",
+                "downloadPath", downloadDir.getAbsolutePath(),
+                "eventsEnabled", true
+        )));
+    }
+
+    // listeners are added the first time a connection is seen and stay for the browser's lifetime
+    private static AtomicReference<DownloadTracker> active(DevTools devTools) {
+        synchronized (activeTrackers) {
+            AtomicReference<DownloadTracker> active = activeTrackers.get(devTools);
+            if (active != null) return active;
+
+            AtomicReference<DownloadTracker> created = new AtomicReference<>();
+            devTools.addListener(DOWNLOAD_WILL_BEGIN, event -> {
+                DownloadTracker tracker = created.get();
+                if (tracker != null) tracker.downloadWillBegin(event);
+            });
+            devTools.addListener(DOWNLOAD_PROGRESS, event -> {
+                DownloadTracker tracker = created.get();
+                if (tracker != null) tracker.downloadProgress(event);
+            });
+
+            activeTrackers.put(devTools, created);
+            return created;
+        }
+    }
+
+    private void downloadWillBegin(Map<String, Object> event) {
+        String guid = String.valueOf(event.get("guid"));
+        guidToFilename.put(guid, String.valueOf(event.get("suggestedFilename")));
+        completion(guid);
+    }
+
+    private void downloadProgress(Map<String, Object> event) {
+        String guid = String.valueOf(event.get("guid"));
+        String state = String.valueOf(event.get("state"));
+
+        if (state.equals("completed")) {
+            completion(guid).complete(finish(guid));
+        } else if (state.equals("canceled")) {
+            completion(guid).completeExceptionally(
+                    new IllegalStateException("Download canceled: " + guidToFilename.get(guid)));
+        }
+    }
+
+    private CompletableFuture<File> completion(String guid) {
+        return completions.computeIfAbsent(guid, g -> new CompletableFuture<>());
+    }
+
+    // GUID-named file → suggested filename
+    private File finish(String guid) {
+        Path saved = downloadDir.toPath().resolve(guid);
+        String filename = guidToFilename.getOrDefault(guid, guid);
+        Path target = downloadDir.toPath().resolve(filename);
+
+        try {
+            Files.move(saved, target, StandardCopyOption.REPLACE_EXISTING);
+            return target.toFile();
+        } catch (IOException e) {
+            System.out.println("⚠ Could not rename download " + guid + " to " + filename + ": " + e.getMessage());
+            return saved.toFile();
+        }
+    }
+
+    /**
+     * Wait until a download whose suggested filename matches the filter has completed.
+     * @return the downloaded file, or null on timeout
+     */
+    public File awaitDownload(Predicate<String> filenameFilter, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            for (Map.Entry<String, String> download : guidToFilename.entrySet()) {
+                if (!filenameFilter.test(download.getValue())) continue;
+
+                long remaining = deadline - System.nanoTime();
+                try {
+                    return completion(download.getKey()).get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    System.out.println(" " + e.getCause().getMessage());
+                    return null;
+                } catch (TimeoutException e) {
+                    return null;
+                }
+            }
+            // download has not started yet
+            SleepClock.sleep(Duration.ofMillis(50), () -> guidToFilename.values().stream().anyMatch(filenameFilter));
+        }
+        return null;
+    }
+
+    /** GUID → suggested filename of every download seen so far. */
+    public Map<String, String> getDownloads() {
+        return Collections.unmodifiableMap(guidToFilename);
+    }
+
+    @Override
+    public void close() {
+        try {
+            active(devTools).compareAndSet(this, null);
+            // back to the plain behaviour DriverFactory configured
+            devTools.send(new Command<Void>("Browser.setDownloadBehavior", Map.of(
+                    "behavior", "allow",
+                    "downloadPath", downloadDir.getAbsolutePath()
+            )));
+        } catch (Exception ignored) {}
+    }
+}
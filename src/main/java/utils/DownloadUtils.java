@@ -1,17 +1,66 @@
 package utils;
 
+import org.openqa.selenium.WebDriver;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipFile;
 
 public class DownloadUtils {
 
-    private static final String DOWNLOAD_DIR = "C:\\SeleniumDownloads"; // keep same as DriverFactory
-    private static final int MAX_ATTEMPTS = 45; // seconds
-    private static final int STABLE_CHECKS = 2; // require size stable for this many checks
+    private static final String DEFAULT_DOWNLOAD_DIR = "C:\\SeleniumDownloads";
+    private static final int MAX_WAIT_SECONDS = 45;
+
+    // Parallel runs: every worker thread gets its own numbered sub-folder
+    private static final AtomicInteger workerCounter = new AtomicInteger();
+    private static final ThreadLocal<File> downloadDir = ThreadLocal.withInitial(DownloadUtils::newWorkerDir);
+
+    private static File newWorkerDir() {
+        return isParallel() ? newDownloadDir("worker-" + workerCounter.incrementAndGet()) : baseDownloadDir();
+    }
+
+    private static File baseDownloadDir() {
+        String configured = PropertyReader.get("downloadDir");
+        return new File(configured == null || configured.isBlank() ? DEFAULT_DOWNLOAD_DIR : configured.trim());
+    }
+
+    /** A dedicated sub-folder of the configured download folder (e.g. one per pooled browser). */
+    public static File newDownloadDir(String name) {
+        return new File(baseDownloadDir(), name);
+    }
+
+    private static boolean isParallel() {
+        String workers = PropertyReader.get("parallel.workers");
+        return workers != null && !workers.isBlank() && Integer.parseInt(workers.trim()) > 1;
+    }
+
+    /** Download folder of the current thread's browser (created if missing). Used by DriverFactory. */
+    public static File getDownloadDir() {
+        File dir = downloadDir.get();
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        return dir;
+    }
+
+    /** Point the current thread at a browser's existing download folder. */
+    public static void bindDownloadDir(File dir) {
+        downloadDir.set(dir);
+    }
 
     // Deletes all existing files before export test
     public static void clearDownloads() {
-        File dir = new File(DOWNLOAD_DIR);
+        File dir = getDownloadDir();
         if (!dir.exists()) return;
 
         File[] files = dir.listFiles();
@@ -19,48 +68,109 @@ public class DownloadUtils {
         Arrays.stream(files).forEach(File::delete);
     }
 
-    // Wait until a .xlsx file with name starting with "Modules" appears and is fully written
+    private static boolean isModulesExport(String name) {
+        return name.startsWith("Modules") && name.toLowerCase().endsWith(".xlsx");
+    }
+
+    /**
+     * Run the export trigger and return the Modules*.xlsx it produced.
+     * Uses CDP download events when the browser supports them, otherwise the folder watcher below.
+     */
+    public static File downloadModulesExport(WebDriver driver, Runnable trigger) throws InterruptedException {
+        if (DownloadTracker.isSupported(driver)) {
+            DownloadTracker tracker = null;
+            try {
+                tracker = DownloadTracker.start(driver, getDownloadDir());
+            } catch (Exception e) {
+                System.out.println("⚠ CDP download events unavailable (" + e.getMessage() + "). Falling back to folder polling.");
+            }
+
+            if (tracker != null) {
+                try (DownloadTracker active = tracker) {
+                    trigger.run();
+                    File file = active.awaitDownload(DownloadUtils::isModulesExport, Duration.ofSeconds(MAX_WAIT_SECONDS));
+                    if (file != null) {
+                        System.out.println("✔ Browser reported download complete: " + active.getDownloads());
+                    }
+                    return file;
+                }
+            }
+        }
+
+        trigger.run();
+        return waitForDownloadedFile();
+    }
+
+    // Wait until a .xlsx file with name starting with "Modules" appears and is fully written.
+    // Reacts to file-system events instead of polling the folder every second.
     public static File waitForDownloadedFile() throws InterruptedException {
-        File dir = new File(DOWNLOAD_DIR);
+        File dir = getDownloadDir();
         if (!dir.exists()) return null;
 
-        int attempts = 0;
-        while (attempts < MAX_ATTEMPTS) {
-            Thread.sleep(1000); // 1 second
-
-            File[] files = dir.listFiles((d, name) ->
-                    name.startsWith("Modules") && name.toLowerCase().endsWith(".xlsx")
-            );
-
-            if (files != null && files.length > 0) {
-                // pick the newest file
-                File candidate = Arrays.stream(files)
-                        .sorted((a, b) -> Long.compare(b.lastModified(), a.lastModified()))
-                        .findFirst()
-                        .orElse(files[0]);
-
-                // ensure file is fully written by checking size stability
-                long previousSize = -1;
-                boolean stable = true;
-                for (int i = 0; i < STABLE_CHECKS; i++) {
-                    long size = candidate.length();
-                    if (previousSize != -1 && size != previousSize) {
-                        stable = false;
-                        break;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(MAX_WAIT_SECONDS);
+
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            dir.toPath().register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            // the download may have finished before we started watching
+            File existing = newestCompleteExport(dir);
+            if (existing != null) return existing;
+
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) break;
+
+                WatchKey key = watcher.poll(remaining, TimeUnit.NANOSECONDS);
+                if (key == null) break;
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        existing = newestCompleteExport(dir);
+                        if (existing != null) return existing;
+                        continue;
                     }
-                    previousSize = size;
-                    Thread.sleep(1000);
-                }
 
-                if (stable && candidate.exists() && candidate.length() > 0) {
-                    return candidate;
+                    // .crdownload partials never match the Modules*.xlsx pattern
+                    Path name = (Path) event.context();
+                    if (!isModulesExport(name.toString())) continue;
+
+                    Path file = dir.toPath().resolve(name);
+                    if (isCompleteZip(file)) {
+                        return file.toFile();
+                    }
+                    // else wait for the next write event (file still being written)
                 }
-                // else loop again (file still being written)
-            }
 
-            attempts++;
+                if (!key.reset()) break;
+            }
+        } catch (IOException e) {
+            System.out.println("⚠ Could not watch download folder: " + e.getMessage());
         }
 
-        return null; // timed out
+        return newestCompleteExport(dir); // null if timed out
+    }
+
+    // newest Modules*.xlsx in the folder that is already a complete archive
+    private static File newestCompleteExport(File dir) {
+        File[] files = dir.listFiles((d, name) -> isModulesExport(name));
+        if (files == null) return null;
+
+        return Arrays.stream(files)
+                .sorted((a, b) -> Long.compare(b.lastModified(), a.lastModified()))
+                .filter(f -> isCompleteZip(f.toPath()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * An .xlsx is a ZIP file: it is complete once the central directory at the end of the file
+     * can be read. A partially written file has no (or a truncated) central directory.
+     */
+    static boolean isCompleteZip(Path file) {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            return zip.size() > 0;
+        } catch (IOException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,61 @@
+package utils;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the relative "Last Seen" text of the Module Overview table into a {@link Duration}.
+ *
+ * Accepted: "now", "yesterday", "a minute ago", "an hour ago", "a day ago", "N minute(s) ago",
+ * "N hour(s) ago", "N day(s) ago". The numeric forms go through one precompiled pattern whose
+ * quantifiers are possessive, so a non-matching cell is rejected without backtracking.
+ */
+public final class LastSeenParser {
+
+    private static final Pattern RELATIVE = Pattern.compile("(\\d++|an?+) (minute|hour|day)s?+ ago");
+
+    private static final int DEFAULT_OFFLINE_THRESHOLD_SECONDS = 60;
+
+    private LastSeenParser() {
+        // Prevent instantiation
+    }
+
+    /**
+     * @return how long ago the module was seen, or null if the text is not a known format
+     */
+    public static Duration parse(String lastSeen) {
+        if (lastSeen == null) return null;
+
+        String text = lastSeen.trim().toLowerCase();
+
+        if (text.equals("now")) return Duration.ZERO;
+        if (text.equals("yesterday")) return Duration.ofDays(1);
+
+        Matcher m = RELATIVE.matcher(text);
+        if (!m.matches()) return null;
+
+        String count = m.group(1);
+        long amount = Character.isDigit(count.charAt(0)) ? Long.parseLong(count) : 1;
+
+        switch (m.group(2)) {
+            case "minute":
+                return Duration.ofMinutes(amount);
+            case "hour":
+                return Duration.ofHours(amount);
+            default:
+                return Duration.ofDays(amount);
+        }
+    }
+
+    /**
+     * Age from which a module is expected to show as offline.
+     * Configured with lastSeen.offlineThresholdSeconds (default 60: "now" is online, "a minute ago" is not).
+     */
+    public static Duration offlineThreshold() {
+        String configured = PropertyReader.get("lastSeen.offlineThresholdSeconds");
+        int seconds = configured == null || configured.isBlank()
+                ? DEFAULT_OFFLINE_THRESHOLD_SECONDS : Integer.parseInt(configured.trim());
+        return Duration.ofSeconds(seconds);
+    }
+}
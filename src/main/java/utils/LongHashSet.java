@@ -0,0 +1,102 @@
+package utils;
+
+/**
+ * Minimal open-addressing set of primitive longs (linear probing, no boxing, one long[] table).
+ * Used for uniqueness checks over 64-bit fingerprints, see {@link #fingerprint(CharSequence)}.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero;   // 0 marks an empty slot, so it is tracked separately
+
+    public LongHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 4 / 3, MIN_CAPACITY) - 1) << 1;
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /** @return true if the value was not yet in the set */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int i = slot(value);
+        while (table[i] != 0) {
+            if (table[i] == value) return false;
+            i = (i + 1) & mask;
+        }
+
+        table[i] = value;
+        // fingerprints are already well mixed, so linear probing copes with a 3/4 load factor
+        if (++size * 4L > table.length * 3L) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return containsZero;
+
+        int i = slot(value);
+        while (table[i] != 0) {
+            if (table[i] == value) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long value) {
+        return (int) (value ^ (value >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+
+        for (long value : old) {
+            if (value == 0) continue;
+
+            int i = slot(value);
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+        }
+    }
+
+    /**
+     * 64-bit fingerprint of a string: FNV-1a over the UTF-16 chars, finished with the MurmurHash3
+     * fmix64 avalanche step. Allocation-free; collisions are negligible at fleet sizes.
+     */
+    public static long fingerprint(CharSequence text) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,430 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * Page-load performance of the controller UI, captured by the page objects once a page has loaded.
+ *
+ * A small script, injected into every document (see DriverFactory), remembers when the route last changed,
+ * collects long tasks and notes the last DOM / table mutation. capture() reads it together with Navigation
+ * and Resource Timing and the CDP Performance.getMetrics counters (script time, layouts, JS heap).
+ *
+ * Every sample is attached to the Allure result as JSON, next to the per-page medians of earlier runs (firmware
+ * builds), and the run's samples are appended to perf.historyFile at shutdown. Switched off with perf.capture=false.
+ *
+ * User actions (applyNetworkFilter, goToNextPage, ...) are measured with startAction() / Action.finish(), but
+ * only while PerformanceBudget has a budget for them, and without the CDP counters (one script call before and
+ * one after the action). Pages and actions are both checked against their budget.
+ */
+public final class PagePerformance {
+
+    private static final String DEFAULT_HISTORY_FILE = "performance-history/page-performance.jsonl";
+
+    /** Installed before any page script runs: route changes, long tasks, last DOM and table mutation. */
+    public static final String INSTALL_SCRIPT =
+            "(function () {\n" +
+            "  if (window.__pagePerf) return;\n" +
+            "  var perf = window.__pagePerf = { routeStart: 0, longTasks: [], lastMutation: 0, lastTableMutation: 0 };\n" +
+            "  try { performance.setResourceTimingBufferSize(10000); } catch (e) {}\n" +
+            "  try {\n" +
+            "    new PerformanceObserver(function (list) {\n" +
+            "      list.getEntries().forEach(function (t) { perf.longTasks.push([t.startTime, t.duration]); });\n" +
+            "    }).observe({ type: 'longtask', buffered: true });\n" +
+            "  } catch (e) {}\n" +
+            "  function routeChanged() { perf.routeStart = performance.now(); }\n" +
+            "  ['pushState', 'replaceState'].forEach(function (name) {\n" +
+            "    var original = history[name];\n" +
+            "    history[name] = function () { var result = original.apply(this, arguments); routeChanged(); return result; };\n" +
+            "  });\n" +
+            "  window.addEventListener('popstate', routeChanged);\n" +
+            "  new MutationObserver(function (records) {\n" +
+            "    var now = performance.now();\n" +
+            "    perf.lastMutation = now;\n" +
+            "    for (var i = 0; i < records.length; i++) {\n" +
+            "      var node = records[i].target;\n" +
+            "      var element = node.nodeType === 1 ? node : node.parentElement;\n" +
+            "      if (element && element.closest && element.closest('table')) { perf.lastTableMutation = now; break; }\n" +
+            "    }\n" +
+            "  }).observe(document, { childList: true, subtree: true, characterData: true });\n" +
+            "})();";
+
+    // arguments[0] = window start (performance.now() ms), or null for "since the route changed"
+    private static final String CAPTURE_SCRIPT =
+            "if (!window.__pagePerf) { " + INSTALL_SCRIPT + " }\n" +
+            "var perf = window.__pagePerf;\n" +
+            "var since = arguments[0] == null ? perf.routeStart : arguments[0];\n" +
+            "var now = performance.now();\n" +
+            "var nav = performance.getEntriesByType('navigation')[0];\n" +
+            "var resources = performance.getEntriesByType('resource').filter(function (r) { return r.startTime >= since; });\n" +
+            "var transfer = 0, slowest = null;\n" +
+            "resources.forEach(function (r) {\n" +
+            "  transfer += r.transferSize || 0;\n" +
+            "  if (!slowest || r.duration > slowest.duration) slowest = r;\n" +
+            "});\n" +
+            "var longTasks = perf.longTasks.filter(function (t) { return t[0] >= since; });\n" +
+            "var longTaskMs = longTasks.reduce(function (sum, t) { return sum + t[1]; }, 0);\n" +
+            "return {\n" +
+            "  url: location.href,\n" +
+            "  elapsedMs: now - since,\n" +
+            "  renderedMs: perf.lastMutation >= since ? perf.lastMutation - since : 0,\n" +
+            "  tableRenderedMs: perf.lastTableMutation >= since ? perf.lastTableMutation - since : null,\n" +
+            "  fullLoad: since === 0,\n" +
+            "  navigation: nav ? { ttfbMs: nav.responseStart, domContentLoadedMs: nav.domContentLoadedEventEnd,\n" +
+            "                      loadMs: nav.loadEventEnd, transferBytes: nav.transferSize } : null,\n" +
+            "  resources: resources.length,\n" +
+            "  transferBytes: transfer,\n" +
+            "  slowestResource: slowest ? { name: slowest.name, durationMs: slowest.duration } : null,\n" +
+            "  longTasks: longTasks.length,\n" +
+            "  longTaskMs: longTaskMs\n" +
+            "};";
+
+    // CDP Performance.getMetrics counters we keep; cumulative ones are reported as a delta per sample
+    private static final List<String> CUMULATIVE_METRICS =
+            List.of("ScriptDuration", "TaskDuration", "LayoutCount", "RecalcStyleCount");
+    private static final String HEAP_METRIC = "JSHeapUsedSize";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String RUN_ID = Instant.now().toString();
+
+    private static final Map<WebDriver, Map<String, Double>> previousMetrics =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // page → samples of earlier runs (from the history file) and of this run
+    private static Map<String, List<ObjectNode>> history;
+    private static final Map<String, List<ObjectNode>> thisRun = new TreeMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PagePerformance::shutdown));
+    }
+
+    private PagePerformance() {
+        // Prevent instantiation
+    }
+
+    /** One page load (or, with a window start, one user action) as seen by the browser. */
+    public record Sample(
+            String name,
+            double elapsedMs,
+            double renderedMs,
+            Double tableRenderedMs,
+            int longTasks,
+            double longTaskMs,
+            long transferBytes,
+            int resources,
+            Map<String, Double> cdpMetrics,
+            Map<String, Object> details
+    ) {
+    }
+
+    public static boolean isEnabled() {
+        String configured = PropertyReader.get("perf.capture");
+        return configured == null || configured.isBlank() || Boolean.parseBoolean(configured.trim());
+    }
+
+    /** Inject the collector into every new document of this browser, and enable the CDP counters once. */
+    public static void install(HasCdp cdp) {
+        if (!isEnabled()) return;
+        cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", INSTALL_SCRIPT));
+        cdp.executeCdpCommand("Performance.enable", Map.of());
+    }
+
+    /**
+     * Capture the current page, measured from its last route change; record it in Allure and the history.
+     * @return the sample, or null when capture is disabled or the browser could not be read
+     */
+    public static Sample capture(WebDriver driver, String pageName) {
+        if (!isEnabled()) return null;
+
+        Sample sample = measure(driver, pageName, null, true);
+        if (sample != null) {
+            record(sample, true);
+            PerformanceBudget.check(sample);
+        }
+        return sample;
+    }
+
+    // =========================
+    // Actions
+    // =========================
+
+    /** A user action being measured; finish() once the page object has seen its result. */
+    public static final class Action {
+
+        private static final Action NOT_MEASURED = new Action(null, null, null);
+
+        private final WebDriver driver;
+        private final String name;
+        private final Double startMs;
+
+        private Action(WebDriver driver, String name, Double startMs) {
+            this.driver = driver;
+            this.name = name;
+            this.startMs = startMs;
+        }
+
+        /** Measure everything since startAction() and check it against the action's budget. */
+        public Sample finish() {
+            if (startMs == null) return null;
+
+            Sample sample = measure(driver, name, startMs, false);
+            if (sample != null) {
+                record(sample, false);
+                PerformanceBudget.check(sample);
+            }
+            return sample;
+        }
+    }
+
+    /**
+     * Mark the start of a user action in the browser. Costs a script call, so actions without a budget
+     * are not measured: finish() is then a no-op.
+     */
+    public static Action startAction(WebDriver driver, String name) {
+        if (!isEnabled() || !PerformanceBudget.covers(name)) return Action.NOT_MEASURED;
+
+        try {
+            Object now = ((JavascriptExecutor) driver).executeScript(
+                    "if (!window.__pagePerf) { " + INSTALL_SCRIPT + " } return performance.now();");
+            return new Action(driver, name, number(now));
+        } catch (Exception e) {
+            System.out.println("⚠ Could not start measuring " + name + ": " + e.getMessage());
+            return Action.NOT_MEASURED;
+        }
+    }
+
+    /** Read the browser's timings for everything since {@code sinceMs} (null = since the route changed). */
+    @SuppressWarnings("unchecked")
+    static Sample measure(WebDriver driver, String name, Double sinceMs, boolean withCdpMetrics) {
+        Map<String, Object> page;
+        try {
+            page = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT, sinceMs);
+        } catch (Exception e) {
+            System.out.println("⚠ Could not capture page performance for " + name + ": " + e.getMessage());
+            return null;
+        }
+
+        Object tableRendered = page.get("tableRenderedMs");
+        return new Sample(
+                name,
+                number(page.get("elapsedMs")),
+                number(page.get("renderedMs")),
+                tableRendered == null ? null : number(tableRendered),
+                (int) number(page.get("longTasks")),
+                number(page.get("longTaskMs")),
+                (long) number(page.get("transferBytes")),
+                (int) number(page.get("resources")),
+                withCdpMetrics ? cdpMetrics(driver) : Map.of(),
+                page);
+    }
+
+    // CDP Performance.getMetrics (enabled by install): deltas since this browser's previous page sample, heap as is
+    @SuppressWarnings("unchecked")
+    private static Map<String, Double> cdpMetrics(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) return Map.of();
+
+        Map<String, Double> current = new HashMap<>();
+        try {
+            Map<String, Object> result = ((HasCdp) driver).executeCdpCommand("Performance.getMetrics", Map.of());
+            for (Map<String, Object> metric : (List<Map<String, Object>>) result.get("metrics")) {
+                current.put(String.valueOf(metric.get("name")), number(metric.get("value")));
+            }
+        } catch (Exception e) {
+            return Map.of();
+        }
+
+        Map<String, Double> previous = previousMetrics.put(driver, current);
+        Map<String, Double> metrics = new TreeMap<>();
+        for (String name : CUMULATIVE_METRICS) {
+            double value = current.getOrDefault(name, 0.0) - (previous == null ? 0.0 : previous.getOrDefault(name, 0.0));
+            // Script/TaskDuration are seconds
+            metrics.put(name.endsWith("Duration") ? name + "Ms" : name, name.endsWith("Duration") ? value * 1000 : value);
+        }
+        metrics.put(HEAP_METRIC + "MB", current.getOrDefault(HEAP_METRIC, 0.0) / (1024 * 1024));
+        return metrics;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0.0;
+    }
+
+    // =========================
+    // Allure + history
+    // =========================
+
+    // actions are not attached one by one: PerformanceBudget attaches them per test
+    private static void record(Sample sample, boolean attach) {
+        ObjectNode line = JSON.createObjectNode();
+        line.put("run", RUN_ID);
+        line.put("label", label());
+        line.put("page", sample.name());
+        line.put("elapsedMs", round(sample.elapsedMs()));
+        line.put("renderedMs", round(sample.renderedMs()));
+        if (sample.tableRenderedMs() != null) line.put("tableRenderedMs", round(sample.tableRenderedMs()));
+        line.put("longTaskMs", round(sample.longTaskMs()));
+        line.put("transferBytes", sample.transferBytes());
+        line.put("resources", sample.resources());
+        sample.cdpMetrics().forEach((name, value) -> line.put(name, round(value)));
+
+        ObjectNode aggregate;
+        synchronized (PagePerformance.class) {
+            loadHistory();
+            thisRun.computeIfAbsent(sample.name(), p -> new ArrayList<>()).add(line);
+            aggregate = aggregate(history.getOrDefault(sample.name(), List.of()));
+        }
+        if (!attach) return;
+
+        ObjectNode attachment = JSON.createObjectNode();
+        attachment.set("sample", line);
+        attachment.set("browser", JSON.valueToTree(sample.details()));
+        attachment.set("earlierRuns", aggregate);
+
+        try {
+            Allure.addAttachment("Page performance — " + sample.name(), "application/json",
+                    JSON.writerWithDefaultPrettyPrinter().writeValueAsString(attachment), ".json");
+        } catch (IOException e) {
+            System.out.println("⚠ Could not attach page performance: " + e.getMessage());
+        }
+
+        System.out.printf("✔ %s performance: %.0f ms to load, %.0f ms long tasks, %d KB transferred%n",
+                sample.name(), sample.elapsedMs(), sample.longTaskMs(), sample.transferBytes() / 1024);
+    }
+
+    // free text to tell runs apart in the history, e.g. the firmware build under test
+    private static String label() {
+        String configured = PropertyReader.get("perf.label");
+        return configured == null ? "" : configured.trim();
+    }
+
+    private static Path historyFile() {
+        String configured = PropertyReader.get("perf.historyFile");
+        return Paths.get(configured == null || configured.isBlank() ? DEFAULT_HISTORY_FILE : configured.trim());
+    }
+
+    // earlier runs only: this run's samples stay in thisRun until writeHistory()
+    private static void loadHistory() {
+        if (history != null) return;
+
+        history = new HashMap<>();
+        Path file = historyFile();
+        if (!Files.exists(file)) return;
+
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String text;
+            while ((text = in.readLine()) != null) {
+                if (text.isBlank()) continue;
+                ObjectNode line = (ObjectNode) JSON.readTree(text);
+                history.computeIfAbsent(line.path("page").asText(), p -> new ArrayList<>()).add(line);
+            }
+        } catch (IOException | ClassCastException e) {
+            System.out.println("⚠ Could not read performance history " + file + ": " + e.getMessage());
+        }
+    }
+
+    // once, at shutdown: one open and append for the whole run
+    private static void writeHistory() {
+        synchronized (PagePerformance.class) {
+            if (thisRun.isEmpty()) return;
+
+            Path file = historyFile();
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (List<ObjectNode> samples : thisRun.values()) {
+                        for (ObjectNode line : samples) {
+                            out.write(JSON.writeValueAsString(line));
+                            out.newLine();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("⚠ Could not append to performance history " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // median and p90 of the main numbers over the given samples
+    private static ObjectNode aggregate(List<ObjectNode> samples) {
+        ObjectNode out = JSON.createObjectNode();
+        out.put("samples", samples.size());
+        out.put("runs", samples.stream().map(s -> s.path("run").asText()).distinct().count());
+
+        for (String field : List.of("elapsedMs", "tableRenderedMs", "longTaskMs", "transferBytes", "ScriptDurationMs", "JSHeapUsedSizeMB")) {
+            List<Double> values = new ArrayList<>();
+            for (ObjectNode sample : samples) {
+                if (sample.has(field)) values.add(sample.get(field).asDouble());
+            }
+            if (values.isEmpty()) continue;
+
+            Collections.sort(values);
+            ObjectNode stats = out.putObject(field);
+            stats.put("p50", round(percentile(values, 50)));
+            stats.put("p90", round(percentile(values, 90)));
+        }
+        return out;
+    }
+
+    private static double percentile(List<Double> sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    private static void shutdown() {
+        writeHistory();
+        printReport();
+    }
+
+    /** This run's median load time per page next to the median of earlier runs. */
+    public static void printReport() {
+        synchronized (PagePerformance.class) {
+            if (thisRun.isEmpty()) return;
+
+            // shutdown hooks run concurrently → keep this report in one block
+            synchronized (System.out) {
+                System.out.println("\n=== PAGE PERFORMANCE REPORT ===");
+                System.out.printf(" %-28s %8s %12s %14s %12s%n", "page / action", "samples", "load p50 ms", "earlier p50 ms", "KB p50");
+
+                thisRun.forEach((page, samples) -> {
+                    ObjectNode now = aggregate(samples);
+                    ObjectNode before = aggregate(history.getOrDefault(page, List.of()));
+
+                    System.out.printf(" %-28s %8d %12.0f %14s %12.0f%n", page, samples.size(),
+                            now.path("elapsedMs").path("p50").asDouble(),
+                            before.has("elapsedMs") ? String.format("%.0f", before.path("elapsedMs").path("p50").asDouble()) : "-",
+                            now.path("transferBytes").path("p50").asDouble() / 1024);
+                });
+                System.out.println(" History: " + historyFile().toAbsolutePath());
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects a paginated table switching pages as soon as it happens, instead of sleeping a fixed time.
+ *
+ * Usage: arm() before clicking the paginator, then awaitChange(). The transition is complete once the
+ * range display text differs from the armed value, a MutationObserver has seen the tbody change (or the
+ * tbody was replaced) AND none of the rows shown at arm() time is still there, so a half-swapped page
+ * (old rows partly removed, new rows partly added) does not count.
+ *
+ * Call settled() once the caller's own follow-up wait (e.g. Angular stable) is done, so the report compares
+ * the whole wait — not just the change detection — with the fixed sleeps it replaced.
+ */
+public class PageTransitionWatcher {
+
+    // What a page switch used to cost: goToNextPage() 2 s + waitForTableToLoad() 1 s
+    private static final long FIXED_SLEEP_MILLIS = 3000;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(25);
+
+    // a row's key: its text, whitespace collapsed
+    private static final String ROW_KEYS =
+            "function rowKeys(body) {\n" +
+            "  return body ? Array.prototype.map.call(body.rows, function (row) {\n" +
+            "    return (row.textContent || '').replace(/\\s+/g, ' ').trim();\n" +
+            "  }) : [];\n" +
+            "}\n";
+
+    private static final String ARM_SCRIPT =
+            ROW_KEYS +
+            "var body = document.querySelector(arguments[0]);\n" +
+            "if (window.__pageTransitionObserver) window.__pageTransitionObserver.disconnect();\n" +
+            "window.__pageTransitionChanged = false;\n" +
+            "window.__pageTransitionBody = body;\n" +
+            "window.__pageTransitionRows = rowKeys(body);\n" +
+            "if (body) {\n" +
+            "  window.__pageTransitionObserver = new MutationObserver(function () { window.__pageTransitionChanged = true; });\n" +
+            "  window.__pageTransitionObserver.observe(body, { childList: true, subtree: true, characterData: true });\n" +
+            "} else {\n" +
+            "  window.__pageTransitionObserver = null;\n" +
+            "}\n" +
+            "var range = document.querySelector(arguments[1]);\n" +
+            "return range ? (range.textContent || '').trim() : '';";
+
+    private static final String CHANGED_SCRIPT =
+            ROW_KEYS +
+            "var range = document.querySelector(arguments[1]);\n" +
+            "var text = range ? (range.textContent || '').trim() : '';\n" +
+            "var body = document.querySelector(arguments[2]);\n" +
+            "var bodyChanged = !window.__pageTransitionObserver || window.__pageTransitionChanged === true\n" +
+            "    || body !== window.__pageTransitionBody;\n" +
+            "var armedRows = window.__pageTransitionRows || [];\n" +
+            "var rows = rowKeys(body);\n" +
+            "var rowsReplaced = rows.length > 0 && rows.every(function (key) { return armedRows.indexOf(key) < 0; });\n" +
+            "if (text !== arguments[0] && bodyChanged && rowsReplaced) {\n" +
+            "  if (window.__pageTransitionObserver) window.__pageTransitionObserver.disconnect();\n" +
+            "  window.__pageTransitionObserver = null;\n" +
+            "  return true;\n" +
+            "}\n" +
+            "return false;";
+
+    // Per-run statistics
+    private static final AtomicLong transitions = new AtomicLong();
+    private static final AtomicLong waitedMillis = new AtomicLong();
+    private static final AtomicLong settleMillis = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+    private static final AtomicBoolean reportRegistered = new AtomicBoolean();
+
+    private final WebDriver driver;
+    private final String tableBodyCss;
+    private final String rangeCss;
+    private String armedRangeText;
+    private long changeSeenAt;
+
+    public PageTransitionWatcher(WebDriver driver, String tableBodyCss, String rangeCss) {
+        this.driver = driver;
+        this.tableBodyCss = tableBodyCss;
+        this.rangeCss = rangeCss;
+
+        if (reportRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(PageTransitionWatcher::printReport));
+        }
+    }
+
+    /** Remember the current range text and rows and start observing the table body. Call BEFORE the click. */
+    public void arm() {
+        armedRangeText = String.valueOf(((JavascriptExecutor) driver).executeScript(ARM_SCRIPT, tableBodyCss, rangeCss));
+    }
+
+    /**
+     * Block until the armed table has switched pages.
+     * @return true if the change was seen, false on timeout
+     */
+    public boolean awaitChange(Duration timeout) {
+        if (armedRangeText == null) {
+            throw new IllegalStateException("arm() must be called before awaitChange()");
+        }
+
+        long start = System.nanoTime();
+        boolean changed;
+
+        try {
+            new WebDriverWait(driver, timeout)
+                    .pollingEvery(POLL_INTERVAL)
+                    .until(d -> Boolean.TRUE.equals(
+                            ((JavascriptExecutor) d).executeScript(CHANGED_SCRIPT, armedRangeText, rangeCss, tableBodyCss)));
+            changed = true;
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            changed = false;
+        }
+
+        changeSeenAt = System.nanoTime();
+        long elapsed = (changeSeenAt - start) / 1_000_000;
+        transitions.incrementAndGet();
+        waitedMillis.addAndGet(elapsed);
+        armedRangeText = null;
+
+        return changed;
+    }
+
+    /** The page is ready to read: counts the time since awaitChange() returned as part of this transition. */
+    public void settled() {
+        if (changeSeenAt == 0) {
+            throw new IllegalStateException("awaitChange() must be called before settled()");
+        }
+        settleMillis.addAndGet((System.nanoTime() - changeSeenAt) / 1_000_000);
+        changeSeenAt = 0;
+    }
+
+    /** Prints how much time event-driven waiting saved compared to the old fixed sleeps. */
+    public static void printReport() {
+        long count = transitions.get();
+        if (count == 0) return;
+
+        long detected = waitedMillis.get();
+        long settling = settleMillis.get();
+        long waited = detected + settling;
+        long saved = count * FIXED_SLEEP_MILLIS - waited;
+
+        System.out.println("\n=== PAGE TRANSITION REPORT ===");
+        System.out.println(" Page transitions = " + count + " (timeouts: " + timeouts.get() + ")");
+        System.out.println(" Until page change seen = " + detected + " ms (avg " + (detected / count) + " ms)");
+        System.out.println(" Then until table settled = " + settling + " ms (avg " + (settling / count) + " ms)");
+        System.out.println(" Time spent waiting = " + waited + " ms (avg " + (waited / count) + " ms)");
+        System.out.println(" Fixed sleeps would have taken = " + (count * FIXED_SLEEP_MILLIS) + " ms");
+        System.out.println("✔ Sleep time saved this run = " + saved + " ms");
+    }
+}
@@ -0,0 +1,199 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Declarative performance budgets for pages and user actions, checked against every PagePerformance sample.
+ *
+ * perfBudget.mode:
+ *   off  → nothing (when the property is not set)
+ *   warn → print the breaches at the end of the test (what config.properties ships while budgets are uncalibrated)
+ *   fail → same, but fail the test
+ *
+ * The budget file (perfBudget.file) holds "&lt;name&gt;.&lt;metric&gt;=max", where name is the page or action
+ * without spaces (ModuleOverview, applyNetworkFilter, goToNextPage, clickExport) and metric is one of
+ * tableRenderedMs, longTaskMs or transferBytes. A page without a table is held to its last DOM change instead.
+ */
+public final class PerformanceBudget {
+
+    public enum Mode { OFF, WARN, FAIL }
+
+    public static final List<String> METRICS = List.of("tableRenderedMs", "longTaskMs", "transferBytes");
+
+    private static final String DEFAULT_BUDGET_FILE = "src/test/resources/performance-budget.properties";
+    private static final String BUDGET_RESOURCE = "performance-budget.properties";
+
+    private static Path loadedFrom;
+    private static Properties budget;
+
+    // checks and breaches of the test running on this thread, reported by verify()
+    private static final ThreadLocal<List<String>> checked = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<List<String>> breaches = ThreadLocal.withInitial(ArrayList::new);
+
+    private PerformanceBudget() {
+        // Prevent instantiation
+    }
+
+    public static Mode mode() {
+        String configured = PropertyReader.get("perfBudget.mode");
+        return configured == null || configured.isBlank() ? Mode.OFF : Mode.valueOf(configured.trim().toUpperCase());
+    }
+
+    public static boolean isActive() {
+        return mode() != Mode.OFF;
+    }
+
+    /** True when the gate is on and the file has at least one budget for this page or action. */
+    public static boolean covers(String name) {
+        return isActive() && covers(name, budget());
+    }
+
+    /** True when these budgets hold at least one limit for this page or action. */
+    public static boolean covers(String name, Properties limits) {
+        for (String metric : METRICS) {
+            if (limits.getProperty(key(name) + "." + metric) != null) return true;
+        }
+        return false;
+    }
+
+    /** Compare one sample with its budget; breaches are reported when the test ends (see verify). */
+    public static void check(PagePerformance.Sample sample) {
+        if (isActive()) {
+            check(sample, budget());
+        }
+    }
+
+    /** Same, against the given budgets regardless of perfBudget.mode. */
+    public static void check(PagePerformance.Sample sample, Properties limits) {
+        if (!covers(sample.name(), limits)) return;
+
+        List<String> over = breaches(sample, limits);
+        checked.get().add(sample.name() + ": " + describe(sample) + (over.isEmpty() ? "" : "  ← OVER BUDGET"));
+
+        for (String breach : over) {
+            System.out.println("⚠ Performance budget breached — " + breach);
+            breaches.get().add(breach);
+        }
+    }
+
+    /** The budget lines this sample breaks, e.g. "applyNetworkFilter tableRenderedMs = 812 (budget 500)". */
+    public static List<String> breaches(PagePerformance.Sample sample, Properties limits) {
+        List<String> over = new ArrayList<>();
+        for (String metric : METRICS) {
+            String configured = limits.getProperty(key(sample.name()) + "." + metric);
+            if (configured == null || configured.isBlank()) continue;
+
+            double max = Double.parseDouble(configured.trim());
+            double actual = value(sample, metric);
+            if (actual > max) {
+                over.add(String.format("%s %s = %.0f (budget %.0f)", sample.name(), metric, actual, max));
+            }
+        }
+        return over;
+    }
+
+    /**
+     * End of test: attach what was checked and, in fail mode, fail the test if anything was over budget.
+     * @throws AssertionError in fail mode when a page or action of this test breached its budget
+     */
+    public static void verify(String testId) {
+        verify(testId, mode());
+    }
+
+    /** Same, with an explicit mode instead of perfBudget.mode. */
+    public static void verify(String testId, Mode mode) {
+        List<String> samples = new ArrayList<>(checked.get());
+        List<String> over = new ArrayList<>(breaches.get());
+        checked.remove();
+        breaches.remove();
+
+        if (samples.isEmpty()) return;
+
+        Allure.addAttachment("Performance budget", "text/plain", String.join("\n", samples), ".txt");
+
+        if (over.isEmpty()) {
+            System.out.println("✔ " + testId + " within performance budget (" + samples.size() + " samples)");
+            return;
+        }
+
+        String message = testId + " breached its performance budget:\n   " + String.join("\n   ", over);
+        if (mode == Mode.FAIL) {
+            Assertions.fail(message);
+        }
+        System.out.println("⚠ " + message);
+    }
+
+    // the time budget is "until the table shows the result"; pages without a table use their last DOM change
+    private static double value(PagePerformance.Sample sample, String metric) {
+        switch (metric) {
+            case "tableRenderedMs":
+                return sample.tableRenderedMs() != null ? sample.tableRenderedMs() : sample.renderedMs();
+            case "longTaskMs":
+                return sample.longTaskMs();
+            case "transferBytes":
+                return sample.transferBytes();
+            default:
+                throw new IllegalArgumentException("Unknown budget metric: " + metric);
+        }
+    }
+
+    private static String describe(PagePerformance.Sample sample) {
+        return String.format("table %.0f ms, long tasks %.0f ms, %d bytes",
+                value(sample, "tableRenderedMs"), sample.longTaskMs(), sample.transferBytes());
+    }
+
+    private static String key(String name) {
+        return name.replace(" ", "");
+    }
+
+    // =========================
+    // Budget file
+    // =========================
+
+    private static Path budgetFile() {
+        String configured = PropertyReader.get("perfBudget.file");
+        return Paths.get(configured == null || configured.isBlank() ? DEFAULT_BUDGET_FILE : configured.trim());
+    }
+
+    // the configured file, or the copy on the test classpath when run from another working directory
+    private static synchronized Properties budget() {
+        Path file = budgetFile();
+        if (budget == null || !file.equals(loadedFrom)) {
+            budget = Files.exists(file) ? load(file) : fromClasspath(BUDGET_RESOURCE);
+            loadedFrom = file;
+        }
+        return budget;
+    }
+
+    public static Properties fromClasspath(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBudget.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in != null) properties.load(in);
+        } catch (IOException e) {
+            System.out.println("⚠ Could not read performance budget " + resource + ": " + e.getMessage());
+        }
+        return properties;
+    }
+
+    public static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (!Files.exists(file)) return properties;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("⚠ Could not read performance budget " + file + ": " + e.getMessage());
+        }
+        return properties;
+    }
+}
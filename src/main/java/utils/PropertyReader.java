@@ -9,7 +9,7 @@ public class PropertyReader {
     private static Properties properties = new Properties();
     private static boolean isLoaded = false;
 
-    private static void loadProperties() {
+    private static synchronized void loadProperties() {
         if (isLoaded) return;
 
         try (InputStream is = PropertyReader.class.getClassLoader().getResourceAsStream("config.properties")) {
@@ -23,7 +23,11 @@ public class PropertyReader {
         }
     }
 
+    // A -Dkey=value system property overrides config.properties (used by Maven profiles / CI)
     public static String get(String key) {
+        String override = System.getProperty(key);
+        if (override != null) return override;
+
         loadProperties();
         return properties.getProperty(key);
     }
@@ -0,0 +1,166 @@
+package utils;
+
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retry with jittered exponential backoff, bounded by a deadline.
+ *
+ * The first retry waits a few milliseconds (retry.initialDelayMs, default 20), each next one twice as
+ * long up to retry.maxDelayMs (default 500), and no retry starts after retry.timeoutMs (default 4000).
+ * Backoff sleeps go through {@link SleepClock}, with the caller's "ready" condition when it passes one, so the
+ * sleep report can tell how often the retry was already possible. Stale-element recoveries are counted per run.
+ */
+public final class RetryPolicy {
+
+    private static final AtomicLong staleRecoveries = new AtomicLong();
+    private static final AtomicLong retries = new AtomicLong();
+    private static final AtomicLong exhausted = new AtomicLong();
+
+    private static volatile RetryPolicy standard;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(RetryPolicy::printReport));
+    }
+
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final long timeoutNanos;
+
+    public RetryPolicy(Duration initialDelay, Duration maxDelay, Duration timeout) {
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /** The policy configured in config.properties (retry.*). */
+    public static RetryPolicy standard() {
+        if (standard == null) {
+            standard = new RetryPolicy(
+                    Duration.ofMillis(millis("retry.initialDelayMs", 20)),
+                    Duration.ofMillis(millis("retry.maxDelayMs", 500)),
+                    Duration.ofMillis(millis("retry.timeoutMs", 4000)));
+        }
+        return standard;
+    }
+
+    private static long millis(String key, long defaultValue) {
+        String configured = PropertyReader.get(key);
+        return configured == null || configured.isBlank() ? defaultValue : Long.parseLong(configured.trim());
+    }
+
+    /**
+     * Run the action until it succeeds or throws something that is not retryable.
+     * When the deadline passes, the last retryable exception is rethrown.
+     */
+    @SafeVarargs
+    // varargs: retryOn is only copied into an immutable list, never written or exposed
+    @SuppressWarnings("varargs")
+    public final <T> T call(Supplier<T> action, Class<? extends RuntimeException>... retryOn) {
+        return call(action, null, List.of(retryOn));
+    }
+
+    /**
+     * Same, with what a retry is waiting for (e.g. "the rows are rendered"); probed by SleepClock before each backoff.
+     * A probe that talks to the browser costs its own WebDriver commands on every retry, so only pass one that
+     * asks something the failed action has not already answered.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final <T> T call(Supplier<T> action, BooleanSupplier ready, Class<? extends RuntimeException>... retryOn) {
+        return call(action, ready, List.of(retryOn));
+    }
+
+    private <T> T call(Supplier<T> action, BooleanSupplier ready, List<Class<? extends RuntimeException>> retryOn) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        long delay = initialDelayNanos;
+        boolean sawStale = false;
+
+        while (true) {
+            try {
+                T result = action.get();
+                if (sawStale) staleRecoveries.incrementAndGet();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e, retryOn)) throw e;
+                if (e instanceof StaleElementReferenceException) sawStale = true;
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    exhausted.incrementAndGet();
+                    throw e;
+                }
+
+                retries.incrementAndGet();
+                backoff(Math.min(jitter(delay), remaining), ready, e);
+                delay = Math.min(delay * 2, maxDelayNanos);
+            }
+        }
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void run(Runnable action, Class<? extends RuntimeException>... retryOn) {
+        call(() -> {
+            action.run();
+            return null;
+        }, null, List.of(retryOn));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void run(Runnable action, BooleanSupplier ready, Class<? extends RuntimeException>... retryOn) {
+        call(() -> {
+            action.run();
+            return null;
+        }, ready, List.of(retryOn));
+    }
+
+    private static boolean isRetryable(RuntimeException e, List<Class<? extends RuntimeException>> retryOn) {
+        for (Class<? extends RuntimeException> type : retryOn) {
+            if (type.isInstance(e)) return true;
+        }
+        return false;
+    }
+
+    // "equal jitter": half the delay fixed, half random, so parallel retries do not line up
+    private static long jitter(long delay) {
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static void backoff(long nanos, BooleanSupplier ready, RuntimeException cause) {
+        try {
+            SleepClock.sleep(Duration.ofNanos(nanos), ready);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    public static long getStaleRecoveries() {
+        return staleRecoveries.get();
+    }
+
+    public static void printReport() {
+        if (retries.get() == 0 && exhausted.get() == 0) return;
+
+        // shutdown hooks run concurrently → keep this report in one block
+        synchronized (System.out) {
+            System.out.println("\n=== RETRY POLICY REPORT ===");
+            System.out.println(" Retries: " + retries.get()
+                    + " | Stale-element recoveries: " + staleRecoveries.get()
+                    + " | Gave up after deadline: " + exhausted.get());
+        }
+    }
+}
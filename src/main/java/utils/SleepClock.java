@@ -0,0 +1,128 @@
+package utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The one place where the framework sleeps unconditionally.
+ *
+ * Every sleep is recorded by call site (first frame outside the sleep helpers) with the requested and
+ * actual duration. When the caller passes the condition it is waiting for, the condition is probed
+ * before sleeping, so the report shows how often the sleep was not needed at all.
+ * The per-run report is printed when the JVM exits.
+ */
+public final class SleepClock {
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private static final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SleepClock::printReport));
+    }
+
+    private SleepClock() {
+        // Prevent instantiation
+    }
+
+    private static final class Site {
+        long calls;
+        long requestedNanos;
+        long sleptNanos;
+        long alreadyTrue;
+        long probed;
+
+        synchronized void record(long requested, long slept, Boolean conditionWasTrue) {
+            calls++;
+            requestedNanos += requested;
+            sleptNanos += slept;
+            if (conditionWasTrue != null) {
+                probed++;
+                if (conditionWasTrue) alreadyTrue++;
+            }
+        }
+    }
+
+    public static void sleep(Duration duration) throws InterruptedException {
+        sleep(duration, null);
+    }
+
+    /**
+     * Sleep for the full duration and record it.
+     * @param awaited what the caller is waiting for (may be null); probed once before sleeping
+     */
+    public static void sleep(Duration duration, BooleanSupplier awaited) throws InterruptedException {
+        String site = callSite();
+        Boolean alreadyTrue = probe(awaited);
+
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(duration.toMillis());
+        } finally {
+            sites.computeIfAbsent(site, s -> new Site()).record(duration.toNanos(), System.nanoTime() - start, alreadyTrue);
+        }
+    }
+
+    private static Boolean probe(BooleanSupplier awaited) {
+        if (awaited == null) return null;
+        try {
+            return awaited.getAsBoolean();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // first frame that is not a sleep/retry helper: "ModuleOverviewPage.safeFind:416"
+    private static String callSite() {
+        return STACK.walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(SleepClock.class.getName())
+                        && !f.getClassName().equals(RetryPolicy.class.getName()))
+                .filter(f -> !f.getMethodName().equals("waitForSeconds") && !f.getMethodName().equals("demoPause"))
+                .findFirst()
+                .map(f -> {
+                    String cls = f.getClassName();
+                    cls = cls.substring(cls.lastIndexOf('.') + 1);
+                    return cls + "." + f.getMethodName() + ":" + f.getLineNumber();
+                })
+                .orElse("(unknown)"));
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    public static void printReport() {
+        if (sites.isEmpty()) return;
+
+        List<Map.Entry<String, Site>> entries = new ArrayList<>(sites.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Site> e) -> e.getValue().sleptNanos).reversed());
+
+        long totalNanos = 0;
+        long totalCalls = 0;
+        for (Map.Entry<String, Site> entry : entries) {
+            totalNanos += entry.getValue().sleptNanos;
+            totalCalls += entry.getValue().calls;
+        }
+
+        // shutdown hooks run concurrently → keep this report in one block
+        synchronized (System.out) {
+            System.out.println("\n=== SLEEP BUDGET REPORT ===");
+            System.out.printf(" Total idle: %.1f s in %d sleep(s)%n", totalNanos / 1e9, totalCalls);
+            System.out.printf(" %-50s %6s %10s %10s %14s%n", "call site", "calls", "asked (s)", "slept (s)", "already true");
+
+            for (Map.Entry<String, Site> entry : entries) {
+                Site site = entry.getValue();
+                synchronized (site) {
+                    String alreadyTrue = site.probed == 0 ? "n/a" : site.alreadyTrue + "/" + site.probed;
+                    System.out.printf(" %-50s %6d %10.1f %10.1f %14s%n",
+                            entry.getKey(), site.calls, site.requestedNanos / 1e9, site.sleptNanos / 1e9, alreadyTrue);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the controller app's XHR/fetch responses and replays them, through CDP Fetch interception.
+ *
+ * traffic.mode:
+ *   off    → nothing (default)
+ *   record → every JSON response the app receives is kept and written to traffic.archive at JVM exit
+ *   replay → requests found in the archive are answered from it without reaching the controller;
+ *            anything else goes to the network as usual
+ *
+ * The archive is gzipped JSON lines: a header with the recording time, then one response per line, keyed
+ * by method + path + query (+ request body hash), so a recording made against one host replays on another.
+ * A key recorded several times replays its responses in order, the last one repeating.
+ *
+ * Replay shifts timestamps by the time since recording, so "Last seen" keeps its meaning: ISO-8601
+ * strings anywhere in a JSON body, and epoch seconds / millis under keys matching traffic.timeKeys.
+ */
+public final class TrafficArchive {
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static final String DEFAULT_ARCHIVE = "src/test/resources/traffic/controller-traffic.jsonl.gz";
+    // "At" is case-sensitive on purpose: createdAt / updated_At, but not format, heartbeat, repeat or stat
+    private static final String DEFAULT_TIME_KEYS = ".*([Tt]ime|TIME|[Dd]ate|DATE|[Ss]een|SEEN|[Ss]tamp|STAMP|At|_at|AT)$";
+
+    // headers that describe the original transfer, not the content we hand back
+    private static final Set<String> DROPPED_HEADERS =
+            Set.of("content-length", "content-encoding", "transfer-encoding", "connection", "date", "keep-alive");
+
+    // 2001-09-09 .. 2100-01-01, so ids and counters are not mistaken for timestamps
+    private static final long MIN_EPOCH_SECONDS = 1_000_000_000L;
+    private static final long MAX_EPOCH_SECONDS = 4_102_444_800L;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // record mode
+    private static final List<ObjectNode> recorded = new ArrayList<>();
+    private static final long recordingStartedMillis = System.currentTimeMillis();
+
+    // replay mode
+    private static Map<String, List<ObjectNode>> archive;
+    private static long shiftMillis;
+
+    // raw browser → how often each key was served to it; reset per test so every test replays from the start
+    private static final Map<WebDriver, Map<String, Integer>> servedPerBrowser =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong replayed = new AtomicLong();
+    private static final AtomicLong passedThrough = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(TrafficArchive::shutdown));
+    }
+
+    private TrafficArchive() {
+        // Prevent instantiation
+    }
+
+    public static Mode mode() {
+        String configured = PropertyReader.get("traffic.mode");
+        return configured == null || configured.isBlank() ? Mode.OFF : Mode.valueOf(configured.trim().toUpperCase());
+    }
+
+    public static boolean isActive() {
+        return mode() != Mode.OFF;
+    }
+
+    /**
+     * Start intercepting the browser's traffic (Fetch.requestPaused) for the configured mode.
+     * Needs a driver with DevTools, i.e. the raw ChromeDriver, not a decorated one.
+     */
+    public static void attach(WebDriver driver) {
+        Mode mode = mode();
+        if (mode == Mode.OFF) return;
+
+        // the interceptor lives as long as the browser's DevTools connection
+        new NetworkInterceptor(driver, mode == Mode.RECORD ? recorder() : replayer(driver));
+        System.out.println("✔ Traffic " + mode.name().toLowerCase() + " attached (" + archiveFile() + ")");
+    }
+
+    /** Replay every recorded sequence from its first response again, e.g. for the next test on a pooled browser. */
+    public static void reset(WebDriver driver) {
+        WebDriver browser = driver;
+        while (browser instanceof WrapsDriver wrapper) {
+            browser = wrapper.getWrappedDriver();
+        }
+
+        Map<String, Integer> served = servedPerBrowser.get(browser);
+        if (served == null) return;
+        synchronized (served) {
+            served.clear();
+        }
+    }
+
+    private static Path archiveFile() {
+        String configured = PropertyReader.get("traffic.archive");
+        return Paths.get(configured == null || configured.isBlank() ? DEFAULT_ARCHIVE : configured.trim());
+    }
+
+    // =========================
+    // Record
+    // =========================
+
+    private static Filter recorder() {
+        return next -> request -> {
+            HttpResponse response = next.execute(request);
+
+            if (isAppData(response)) {
+                ObjectNode entry = JSON.createObjectNode();
+                entry.put("key", key(request));
+                entry.put("status", response.getStatus());
+
+                ObjectNode headers = entry.putObject("headers");
+                response.forEachHeader((name, value) -> {
+                    if (!DROPPED_HEADERS.contains(name.toLowerCase())) headers.put(name, value);
+                });
+
+                byte[] body = Contents.bytes(response.getContent());
+                if (isText(response.getHeader("Content-Type"))) {
+                    entry.put("body", new String(body, StandardCharsets.UTF_8));
+                } else {
+                    entry.put("bodyBase64", Base64.getEncoder().encodeToString(body));
+                }
+
+                synchronized (recorded) {
+                    recorded.add(entry);
+                }
+            }
+            return response;
+        };
+    }
+
+    // XHR/fetch answers of the Angular app are JSON; documents, scripts, images and downloads are not
+    private static boolean isAppData(HttpResponse response) {
+        String contentType = response.getHeader("Content-Type");
+        return contentType != null && contentType.toLowerCase().contains("json");
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null) return false;
+        String type = contentType.toLowerCase();
+        return type.contains("json") || type.startsWith("text/") || type.contains("xml") || type.contains("javascript");
+    }
+
+    private static void writeRecorded() {
+        synchronized (recorded) {
+            if (recorded.isEmpty()) return;
+
+            Path file = archiveFile();
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+
+                try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+                    ObjectNode header = JSON.createObjectNode();
+                    header.put("recordedAt", recordingStartedMillis);
+                    header.put("responses", recorded.size());
+                    out.write(JSON.writeValueAsString(header));
+                    out.newLine();
+
+                    for (ObjectNode entry : recorded) {
+                        out.write(JSON.writeValueAsString(entry));
+                        out.newLine();
+                    }
+                }
+                System.out.println("✔ Traffic archive written: " + file.toAbsolutePath() + " (" + recorded.size() + " responses)");
+            } catch (IOException e) {
+                System.out.println("⚠ Could not write traffic archive " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    // =========================
+    // Replay
+    // =========================
+
+    private static Filter replayer(WebDriver driver) {
+        Map<String, List<ObjectNode>> responses = loadArchive();
+
+        // per browser: every test replays the same sequence (see reset)
+        Map<String, Integer> served = new HashMap<>();
+        servedPerBrowser.put(driver, served);
+
+        return next -> request -> {
+            String key = key(request);
+            List<ObjectNode> candidates = responses.get(key);
+
+            if (candidates == null) {
+                passedThrough.incrementAndGet();
+                return next.execute(request);
+            }
+
+            int index;
+            synchronized (served) {
+                index = served.merge(key, 1, Integer::sum) - 1;
+            }
+            replayed.incrementAndGet();
+            return toResponse(candidates.get(Math.min(index, candidates.size() - 1)));
+        };
+    }
+
+    private static synchronized Map<String, List<ObjectNode>> loadArchive() {
+        if (archive != null) return archive;
+
+        Path file = archiveFile();
+        Map<String, List<ObjectNode>> loaded = new HashMap<>();
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            JsonNode header = JSON.readTree(in.readLine());
+            shiftMillis = System.currentTimeMillis() - header.path("recordedAt").asLong(System.currentTimeMillis());
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                ObjectNode entry = (ObjectNode) JSON.readTree(line);
+                loaded.computeIfAbsent(entry.path("key").asText(), k -> new ArrayList<>()).add(entry);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read traffic archive " + file.toAbsolutePath()
+                    + " — record one first with traffic.mode=record", e);
+        }
+
+        System.out.println("✔ Traffic archive loaded: " + loaded.size() + " request(s), shifting timestamps by "
+                + shiftMillis / 60_000 + " min");
+        archive = loaded;
+        return archive;
+    }
+
+    private static HttpResponse toResponse(ObjectNode entry) {
+        HttpResponse response = new HttpResponse().setStatus(entry.path("status").asInt(200));
+
+        for (Map.Entry<String, JsonNode> header : entry.path("headers").properties()) {
+            response.setHeader(header.getKey(), header.getValue().asText());
+        }
+
+        byte[] body;
+        if (entry.has("body")) {
+            body = shiftTimes(entry.get("body").asText(), shiftMillis).getBytes(StandardCharsets.UTF_8);
+        } else {
+            body = Base64.getDecoder().decode(entry.path("bodyBase64").asText(""));
+        }
+        response.setContent(Contents.bytes(body));
+        return response;
+    }
+
+    // =========================
+    // Time shifting
+    // =========================
+
+    /** Move every timestamp in a JSON body forward by {@code shiftMillis}; non-JSON text is returned as is. */
+    static String shiftTimes(String body, long shiftMillis) {
+        if (shiftMillis == 0) return body;
+
+        try {
+            JsonNode root = JSON.readTree(body);
+            if (root == null || !root.isContainerNode()) return body;
+            return JSON.writeValueAsString(shift(root, null, shiftMillis, timeKeys()));
+        } catch (IOException e) {
+            return body;
+        }
+    }
+
+    private static Pattern timeKeys() {
+        String configured = PropertyReader.get("traffic.timeKeys");
+        return Pattern.compile(configured == null || configured.isBlank() ? DEFAULT_TIME_KEYS : configured.trim());
+    }
+
+    private static JsonNode shift(JsonNode node, String key, long shiftMillis, Pattern timeKeys) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            List<String> names = new ArrayList<>();
+            object.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                object.set(name, shift(object.get(name), name, shiftMillis, timeKeys));
+            }
+            return object;
+        }
+
+        if (node.isArray()) {
+            ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, shift(array.get(i), key, shiftMillis, timeKeys));
+            }
+            return array;
+        }
+
+        if (node.isTextual()) {
+            String shifted = shiftIsoTimestamp(node.asText(), shiftMillis);
+            return shifted == null ? node : JSON.getNodeFactory().textNode(shifted);
+        }
+
+        if (node.isIntegralNumber() && key != null && timeKeys.matcher(key).matches()) {
+            long value = node.asLong();
+            if (value >= MIN_EPOCH_SECONDS && value < MAX_EPOCH_SECONDS) {
+                return JSON.getNodeFactory().numberNode(value + shiftMillis / 1000);
+            }
+            if (value >= MIN_EPOCH_SECONDS * 1000 && value < MAX_EPOCH_SECONDS * 1000) {
+                return JSON.getNodeFactory().numberNode(value + shiftMillis);
+            }
+        }
+        return node;
+    }
+
+    // "2026-10-18T02:57:55Z" / "...+02:00" / "2026-10-18T02:57:55" → same format, later instant; anything else → null
+    private static String shiftIsoTimestamp(String text, long shiftMillis) {
+        if (text.length() < 19 || text.charAt(4) != '-' || text.charAt(10) != 'T') return null;
+
+        try {
+            OffsetDateTime shifted = OffsetDateTime.parse(text).plusNanos(shiftMillis * 1_000_000);
+            return text.endsWith("Z") ? shifted.toInstant().toString() : shifted.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } catch (DateTimeParseException withoutOffset) {
+            try {
+                return LocalDateTime.parse(text).plusNanos(shiftMillis * 1_000_000).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    // =========================
+    // Request key
+    // =========================
+
+    /** "GET /api/modules?page=2", plus "#&lt;body hash&gt;" for requests with a body. */
+    static String key(HttpRequest request) {
+        URI uri = URI.create(request.getUri());
+        StringBuilder key = new StringBuilder(request.getMethod().name()).append(' ').append(uri.getRawPath());
+        if (uri.getRawQuery() != null) key.append('?').append(uri.getRawQuery());
+
+        byte[] body = Contents.bytes(request.getContent());
+        if (body.length > 0) key.append('#').append(sha256(body));
+        return key.toString();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // =========================
+    // Report
+    // =========================
+
+    private static void shutdown() {
+        writeRecorded();
+
+        if (replayed.get() == 0 && passedThrough.get() == 0) return;
+
+        // shutdown hooks run concurrently → keep this report in one block
+        synchronized (System.out) {
+            System.out.println("\n=== TRAFFIC REPLAY REPORT ===");
+            System.out.println(" Answered from archive: " + replayed.get()
+                    + " | Not in archive (sent to network): " + passedThrough.get()
+                    + " | Recorded " + Instant.now().minusMillis(shiftMillis));
+        }
+    }
+}
@@ -104,27 +104,19 @@ public class UIHelpers {
     }
 
     public WebElement retryFind(By locator) {
-        for (int i = 0; i < 3; i++) {
-            try {
-                return driver.findElement(locator);
-            } catch (StaleElementReferenceException e) {
-                wait.waitForSeconds(1);
-            }
+        try {
+            return RetryPolicy.standard().call(() -> driver.findElement(locator), StaleElementReferenceException.class);
+        } catch (StaleElementReferenceException e) {
+            throw new RuntimeException("Could not recover element: " + locator);
         }
-        throw new RuntimeException("Could not recover element: " + locator);
     }
 
     public void safeClick(WebElement element) {
-        for (int i = 0; i < 3; i++) {
-            try {
-                element.click();
-                return;
-            } catch (StaleElementReferenceException e) {
-                System.out.println("Retrying click due to stale element...");
-                wait.waitForSeconds(1);
-            }
+        try {
+            RetryPolicy.standard().run(element::click, StaleElementReferenceException.class);
+        } catch (StaleElementReferenceException e) {
+            throw new RuntimeException("Element still stale after retries!");
         }
-        throw new RuntimeException("Element still stale after retries!");
     }
 
 
@@ -6,9 +6,22 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 public class WaitUtils {
 
+    // Angular testability API: stable = no pending macrotasks (timers, HTTP) in the app zone
+    private static final String ANGULAR_STABLE_SCRIPT =
+            "if (document.readyState !== 'complete') return false;\n" +
+            "if (typeof window.getAllAngularTestabilities !== 'function') return true;\n" +
+            "var all = window.getAllAngularTestabilities();\n" +
+            "for (var i = 0; i < all.length; i++) {\n" +
+            "  if (!all[i].isStable()) return false;\n" +
+            "}\n" +
+            "return true;";
+
+    private static final Duration ANGULAR_POLL_INTERVAL = Duration.ofMillis(50);
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -55,11 +68,46 @@ public class WaitUtils {
     public void waitForPageLoad() {
         wait.until(driver -> ((JavascriptExecutor) driver)
                 .executeScript("return document.readyState").equals("complete"));
+        waitForAngularStable();
+    }
+
+    /**
+     * Wait until Angular has no pending macrotasks or HTTP requests.
+     * Pages without the testability API count as stable once the document is complete.
+     * A timeout only logs a warning, so an app with a permanent poller cannot block the run.
+     */
+    public boolean waitForAngularStable() {
+        String configured = PropertyReader.get("angularStableTimeout");
+        int timeoutSeconds = configured == null || configured.isBlank() ? 5 : Integer.parseInt(configured.trim());
+
+        try {
+            new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
+                    .pollingEvery(ANGULAR_POLL_INTERVAL)
+                    .until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(ANGULAR_STABLE_SCRIPT)));
+            return true;
+        } catch (TimeoutException e) {
+            System.out.println("⚠ Angular did not become stable within " + timeoutSeconds + "s — continuing.");
+            return false;
+        }
+    }
+
+    /** Current Angular stability, without waiting (false if it cannot be read). */
+    public boolean isAngularStable() {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(ANGULAR_STABLE_SCRIPT));
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     public void waitForSeconds(int seconds) {
+        waitForSeconds(seconds, null);
+    }
+
+    /** Fixed sleep, recorded by SleepClock together with whether {@code awaited} was already true. */
+    public void waitForSeconds(int seconds, BooleanSupplier awaited) {
         try {
-            Thread.sleep(seconds * 1000L);
+            SleepClock.sleep(Duration.ofSeconds(seconds), awaited);
         } catch (InterruptedException ignored) {}
     }
 
@@ -74,7 +122,7 @@ public class WaitUtils {
         try {
             WebDriverWait strongWait = new WebDriverWait(driver, Duration.ofSeconds(25));
             strongWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            waitForSeconds(1); // small buffer for Angular rendering
+            waitForAngularStable();
         } catch (Exception e) {
             System.out.println(" Section did not render for locator: " + locator);
             throw e;
@@ -0,0 +1,192 @@
+package utils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads the first worksheet of an .xlsx row by row with StAX, straight from the zip entry.
+ * No workbook model is built and the sheet itself is streamed, but the whole shared-strings table is
+ * loaded into a list first: memory grows with the distinct text in the workbook, not just the current row.
+ * Files written by {@link XlsxWriter} use inline strings and have no such table.
+ */
+public final class XlsxStreamReader {
+
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final String FIRST_SHEET = "xl/worksheets/sheet1.xml";
+
+    private XlsxStreamReader() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Calls the consumer once per sheet row with the cell values as text.
+     * Empty cells inside a row are returned as "" so column positions are preserved.
+     */
+    public static void forEachRow(File xlsx, Consumer<List<String>> rowConsumer) throws IOException {
+        try (ZipFile zip = new ZipFile(xlsx)) {
+            List<String> sharedStrings = readSharedStrings(zip);
+
+            ZipEntry sheet = findFirstSheet(zip);
+            if (sheet == null) {
+                throw new IOException("No worksheet found in " + xlsx.getName());
+            }
+
+            try (InputStream in = zip.getInputStream(sheet)) {
+                readSheet(in, sharedStrings, rowConsumer);
+            } catch (XMLStreamException e) {
+                throw new IOException("Could not parse worksheet of " + xlsx.getName(), e);
+            }
+        }
+    }
+
+    private static ZipEntry findFirstSheet(ZipFile zip) {
+        ZipEntry sheet = zip.getEntry(FIRST_SHEET);
+        if (sheet != null) return sheet;
+
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (entry.getName().startsWith("xl/worksheets/") && entry.getName().endsWith(".xml")) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // =========================
+    // Shared strings
+    // =========================
+
+    // every <si> entry, in index order — the sheet refers to them by position, so all of them are kept
+    private static List<String> readSharedStrings(ZipFile zip) throws IOException {
+        List<String> strings = new ArrayList<>();
+
+        ZipEntry entry = zip.getEntry(SHARED_STRINGS);
+        if (entry == null) return strings;
+
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader xml = newReader(in);
+            StringBuilder current = null;
+
+            while (xml.hasNext()) {
+                int event = xml.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if (name.equals("si")) {
+                        current = new StringBuilder();
+                    } else if (name.equals("t") && current != null) {
+                        current.append(xml.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("si")) {
+                    strings.add(current == null ? "" : current.toString());
+                    current = null;
+                }
+            }
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not parse " + SHARED_STRINGS, e);
+        }
+
+        return strings;
+    }
+
+    // =========================
+    // Sheet rows
+    // =========================
+
+    private static void readSheet(InputStream in, List<String> sharedStrings, Consumer<List<String>> rowConsumer)
+            throws XMLStreamException {
+
+        XMLStreamReader xml = newReader(in);
+
+        List<String> row = null;
+        String cellType = null;
+        int cellColumn = -1;
+        String cellValue = null;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "row":
+                        row = new ArrayList<>();
+                        break;
+                    case "c":
+                        cellType = xml.getAttributeValue(null, "t");
+                        String ref = xml.getAttributeValue(null, "r");
+                        cellColumn = ref == null ? (row == null ? 0 : row.size()) : columnIndex(ref);
+                        cellValue = "";
+                        break;
+                    case "v":
+                        cellValue = xml.getElementText();
+                        break;
+                    case "t":
+                        // inline string: <c t="inlineStr"><is><t>text</t></is></c>
+                        cellValue = cellValue + xml.getElementText();
+                        break;
+                    default:
+                        break;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "c":
+                        if (row != null) {
+                            while (row.size() < cellColumn) row.add("");
+                            row.add(resolve(cellType, cellValue, sharedStrings));
+                        }
+                        break;
+                    case "row":
+                        if (row != null) rowConsumer.accept(row);
+                        row = null;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        xml.close();
+    }
+
+    private static String resolve(String type, String value, List<String> sharedStrings) {
+        if (value == null) return "";
+        if ("s".equals(type)) {
+            int index = Integer.parseInt(value.trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : "";
+        }
+        if ("b".equals(type)) {
+            return value.trim().equals("1") ? "TRUE" : "FALSE";
+        }
+        return value;
+    }
+
+    // "AB12" → 27 (zero-based column)
+    static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char ch = cellRef.charAt(i);
+            if (ch < 'A' || ch > 'Z') break;
+            column = column * 26 + (ch - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static XMLStreamReader newReader(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory.createXMLStreamReader(in);
+    }
+}
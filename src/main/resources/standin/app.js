@@ -0,0 +1,450 @@
+// Stand-in for the controller's Angular UI: same routes and DOM contract, rendered from /api/*.
+(function () {
+    'use strict';
+
+    var outlet = document.getElementById('outlet');
+    var overlay = document.getElementById('overlay');
+
+    // ---------------------------------------------------------------
+    // Angular testability stub: stable = no request or render pending
+    // ---------------------------------------------------------------
+    var pending = 0;
+    var stableCallbacks = [];
+
+    window.getAllAngularTestabilities = function () {
+        return [{
+            isStable: function () { return pending === 0; },
+            whenStable: function (callback) {
+                if (pending === 0) callback(true); else stableCallbacks.push(callback);
+            }
+        }];
+    };
+
+    function task(promise) {
+        pending++;
+        return promise.finally(function () {
+            pending--;
+            if (pending === 0) {
+                stableCallbacks.splice(0).forEach(function (callback) { callback(true); });
+            }
+        });
+    }
+
+    function api(path) {
+        return fetch(path, { cache: 'no-store' }).then(function (response) {
+            if (!response.ok) throw new Error(path + ' → HTTP ' + response.status);
+            return response.json();
+        });
+    }
+
+    function esc(value) {
+        return String(value == null ? '' : value)
+            .replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;').replace(/"/g, '&quot;');
+    }
+
+    function capitalize(value) {
+        return value ? value.charAt(0).toUpperCase() + value.slice(1) : value;
+    }
+
+    // ---------------------------------------------------------------
+    // Routing
+    // ---------------------------------------------------------------
+    var routes = {
+        'dashboard': renderDashboard,
+        'module-overview': renderModuleOverview,
+        'event-logs': renderEventLogs,
+        'alerts': renderAlerts,
+        'system-config': renderSystemConfig
+    };
+
+    function currentRoute() {
+        var route = location.pathname.replace(/^\/main\/?/, '').split('/')[0];
+        return routes[route] ? route : 'dashboard';
+    }
+
+    function navigate(route) {
+        closeOverlay();
+        history.pushState(null, '', '/main/' + route);
+        render();
+    }
+
+    function render() {
+        var route = currentRoute();
+        if (location.pathname !== '/main/' + route) history.replaceState(null, '', '/main/' + route);
+
+        document.querySelectorAll('app-sidebar a').forEach(function (link) {
+            link.classList.toggle('active', link.getAttribute('data-route') === route);
+        });
+        task(Promise.resolve(routes[route]()));
+    }
+
+    document.querySelectorAll('app-sidebar a').forEach(function (link) {
+        link.addEventListener('click', function () { navigate(link.getAttribute('data-route')); });
+    });
+    window.addEventListener('popstate', render);
+
+    // ---------------------------------------------------------------
+    // Overlays (cdk-overlay look-alike)
+    // ---------------------------------------------------------------
+    function openOverlay(anchor, wrapperTag, items, onSelect) {
+        closeOverlay();
+
+        var rect = anchor.getBoundingClientRect();
+        overlay.innerHTML =
+            '<div class="cdk-overlay-backdrop"></div>' +
+            '<div class="cdk-overlay-pane" style="left:' + rect.left + 'px;top:' + rect.bottom + 'px">' +
+            '<' + wrapperTag + '><ul>' +
+            items.map(function (item) { return '<li><button type="button">' + esc(item) + '</button></li>'; }).join('') +
+            '</ul></' + wrapperTag + '></div>';
+
+        overlay.querySelector('.cdk-overlay-backdrop').addEventListener('click', closeOverlay);
+        overlay.querySelectorAll('.cdk-overlay-pane li button').forEach(function (button, index) {
+            button.addEventListener('click', function () {
+                closeOverlay();
+                if (onSelect) onSelect(items[index]);
+            });
+        });
+    }
+
+    function closeOverlay() {
+        overlay.innerHTML = '';
+    }
+
+    document.addEventListener('keydown', function (event) {
+        if (event.key === 'Escape') closeOverlay();
+    });
+
+    // ---------------------------------------------------------------
+    // Shared fragments
+    // ---------------------------------------------------------------
+    var NETWORK_CLASS = { online: 'healthy', offline: 'faulty', degraded: 'degraded', pending: 'pending' };
+
+    function indicator(status, cssClass) {
+        return '<app-module-status-indicator><div class="module_status_indicator ' + cssClass + '">' +
+            '<img src="/assets/icons/' + status + '.svg" alt="' + status + '">' +
+            '<span>' + capitalize(status) + '</span></div></app-module-status-indicator>';
+    }
+
+    function appButton(label, attributes) {
+        return '<app-button' + (attributes || '') + '><button type="button"><span>' + esc(label) + '</span></button></app-button>';
+    }
+
+    // ---------------------------------------------------------------
+    // Dashboard
+    // ---------------------------------------------------------------
+    function renderDashboard() {
+        outlet.innerHTML = '<h1>Dashboard</h1>';
+
+        return api('/api/summary').then(function (summary) {
+            outlet.innerHTML =
+                '<h1>Dashboard</h1>' +
+                '<app-dashboard-summary-card title="Total modules"><div class="summary_card">' +
+                '<h3>Total modules</h3>' +
+                '<div class="data"><div class="total">' + summary.total + '</div></div>' +
+                '<p>' + summary.online + ' online · ' + summary.offline + ' offline</p>' +
+                appButton('View device list', ' id="view-device-list"') +
+                '</div></app-dashboard-summary-card>' +
+                '<section><div class="sample_modules"><h2>Modules</h2><table><tbody>' +
+                summary.sample.map(function (m) {
+                    return '<tr><td>' + esc(m.name) + '</td><td>' + esc(m.ip) + '</td><td>' +
+                        indicator(m.network, NETWORK_CLASS[m.network]) + '</td></tr>';
+                }).join('') +
+                '</tbody></table>' + appButton('View all', ' id="view-all-modules"') + '</div></section>' +
+                '<section><div class="latest_event_logs"><h2>Latest event logs</h2><ul>' +
+                summary.latestEvents.map(function (e) {
+                    return '<li>' + esc(e.time) + ' — ' + esc(e.module) + ': ' + esc(e.message) + '</li>';
+                }).join('') +
+                '</ul>' + appButton('View all', ' id="view-all-events"') + '</div></section>';
+
+            outlet.querySelector('#view-device-list button').addEventListener('click', function () { navigate('module-overview'); });
+            outlet.querySelector('#view-all-modules button').addEventListener('click', function () { navigate('module-overview'); });
+            outlet.querySelector('#view-all-events button').addEventListener('click', function () { navigate('event-logs'); });
+        });
+    }
+
+    // ---------------------------------------------------------------
+    // Module Overview
+    // ---------------------------------------------------------------
+    var FILTERS = [
+        { key: 'network', label: 'Network Status', wrapper: 'app-select-overlay',
+          options: { 'Connected': 'online', 'Disconnected': 'offline', 'Pending': 'pending', 'Degraded': 'degraded' } },
+        { key: 'io', label: 'I/O Status', wrapper: 'app-select-overlay',
+          options: { 'Healthy': 'healthy', 'Faulty': 'faulty', 'Pending': 'pending' } },
+        { key: 'commission', label: 'All', wrapper: 'app-action-items-overlay',
+          options: { 'All': '', 'Commissioned': 'commissioned', 'Uncommissioned': 'uncommissioned' } }
+    ];
+
+    var modules = { page: 0, size: 25, total: 0, network: '', io: '', commission: '', labels: {}, request: 0 };
+
+    function listView() {
+        return sessionStorage.getItem('moduleView') !== 'grid';
+    }
+
+    function moduleQuery() {
+        return 'network=' + encodeURIComponent(modules.network) +
+            '&io=' + encodeURIComponent(modules.io) +
+            '&commission=' + encodeURIComponent(modules.commission);
+    }
+
+    function renderModuleOverview() {
+        var list = listView();
+
+        outlet.innerHTML =
+            '<h1>Module Overview</h1>' +
+            '<div class="toolbar">' +
+            '<app-list-grid-toggle>' +
+            '<button type="button" class="' + (list ? 'active' : '') + '"><img src="/assets/icons/list.svg" alt="list view"></button>' +
+            '<button type="button" class="' + (list ? '' : 'active') + '"><img src="/assets/icons/grid.svg" alt="grid view"></button>' +
+            '</app-list-grid-toggle>' +
+            '<div class="filters toolbar">' +
+            FILTERS.map(function (filter) {
+                return '<app-select usecase="module_status_filter"><button type="button" class="select">' +
+                    '<div class="label">' + esc(modules.labels[filter.key] || filter.label) + '</div></button></app-select>';
+            }).join('') +
+            appButton('Reset', ' text="Reset"') +
+            '</div>' +
+            '<div class="exports exports--module_commissioning">' + appButton('Export') + '</div>' +
+            '</div>' +
+            '<div id="module-content"></div>';
+
+        var toggles = outlet.querySelectorAll('app-list-grid-toggle button');
+        toggles[0].addEventListener('click', function () { switchView('list'); });
+        toggles[1].addEventListener('click', function () { switchView('grid'); });
+
+        outlet.querySelectorAll('app-select button.select').forEach(function (button, index) {
+            var filter = FILTERS[index];
+            button.addEventListener('click', function () {
+                openOverlay(button, filter.wrapper, Object.keys(filter.options), function (choice) {
+                    modules[filter.key] = filter.options[choice];
+                    modules.labels[filter.key] = choice;
+                    modules.page = 0;
+                    button.querySelector('.label').textContent = choice;
+                    task(loadModules());
+                });
+            });
+        });
+
+        outlet.querySelector("app-button[text='Reset'] button").addEventListener('click', function () {
+            modules.network = modules.io = modules.commission = '';
+            modules.labels = {};
+            modules.page = 0;
+            outlet.querySelectorAll('app-select .label').forEach(function (label, index) {
+                label.textContent = FILTERS[index].label;
+            });
+            task(loadModules());
+        });
+
+        outlet.querySelector('.exports--module_commissioning span').addEventListener('click', function () {
+            var link = document.createElement('a');
+            link.href = '/api/modules/export?' + moduleQuery();
+            link.download = '';
+            document.body.appendChild(link);
+            link.click();
+            link.remove();
+        });
+
+        return loadModules();
+    }
+
+    function switchView(view) {
+        sessionStorage.setItem('moduleView', view);
+        task(Promise.resolve(renderModuleOverview()));
+    }
+
+    function loadModules() {
+        var request = ++modules.request;
+
+        return api('/api/modules?page=' + modules.page + '&size=' + modules.size + '&' + moduleQuery())
+            .then(function (data) {
+                // a newer request (filter / page change) has been issued meanwhile
+                if (request !== modules.request) return;
+                renderModuleContent(data);
+            });
+    }
+
+    function renderModuleContent(data) {
+        var content = document.getElementById('module-content');
+        if (!content) return;
+
+        modules.total = data.total;
+        if (data.total === 0) {
+            content.innerHTML = '<app-no-data><p>No matching modules found</p></app-no-data>';
+            return;
+        }
+
+        // like the Angular table, keep the table and paginator and only swap the rows
+        var list = listView();
+        var rowsCss = list ? 'app-module-manager-list-view tbody' : 'app-module-manager-grid-view .grid';
+        if (!content.querySelector(rowsCss)) {
+            content.innerHTML = moduleContainer(list);
+            wirePaginator(content);
+        }
+
+        var from = data.page * data.size + 1;
+        var to = from + data.rows.length - 1;
+
+        content.querySelector(rowsCss).innerHTML = data.rows.map(list ? tableRow : gridCard).join('');
+        content.querySelector('#rows-per-page').value = String(data.size);
+        content.querySelector('.paginator_range_display').textContent = from + ' – ' + to + ' of ' + data.total;
+
+        var navigation = content.querySelectorAll('.paginator_navigation button');
+        navigation[0].disabled = data.page === 0;
+        navigation[1].disabled = to >= data.total;
+
+        content.querySelectorAll('button.khebab_action').forEach(function (button, index) {
+            var module = data.rows[index];
+            button.addEventListener('click', function () {
+                openOverlay(button, 'app-action-items-overlay', actionMenu(module), null);
+            });
+        });
+    }
+
+    function moduleContainer(list) {
+        return (list
+                ? '<app-module-manager-list-view><table>' +
+                  '<thead><tr><th>Module Name</th><th>Module IP</th><th>Network Status</th><th>I/O Status</th>' +
+                  '<th>Last Seen</th><th>Action</th></tr></thead>' +
+                  '<tbody></tbody></table></app-module-manager-list-view>'
+                : '<app-module-manager-grid-view><div class="grid"></div></app-module-manager-grid-view>') +
+            '<div class="paginator">' +
+            '<label for="rows-per-page">Rows per page</label>' +
+            '<select id="rows-per-page">' + [10, 25, 50, 100].map(function (size) {
+                return '<option value="' + size + '">' + size + '</option>';
+            }).join('') + '</select>' +
+            '<div class="paginator_range_display"></div>' +
+            '<div class="paginator_navigation">' +
+            '<app-button><button type="button">‹</button></app-button>' +
+            '<app-button><button type="button">›</button></app-button>' +
+            '</div></div>';
+    }
+
+    function wirePaginator(content) {
+        content.querySelector('#rows-per-page').addEventListener('change', function (event) {
+            modules.size = parseInt(event.target.value, 10);
+            modules.page = 0;
+            task(loadModules());
+        });
+
+        // clicks can queue up faster than pages render → bound by the last known total, not the button state
+        var navigation = content.querySelectorAll('.paginator_navigation button');
+        navigation[0].addEventListener('click', function () {
+            if (modules.page === 0) return;
+            modules.page--;
+            task(loadModules());
+        });
+        navigation[1].addEventListener('click', function () {
+            if ((modules.page + 1) * modules.size >= modules.total) return;
+            modules.page++;
+            task(loadModules());
+        });
+    }
+
+    function tableRow(m) {
+        function td(column, html) {
+            return '<td class="mat-mdc-cell cdk-column-' + column + ' mat-column-' + column + '">' + html + '</td>';
+        }
+
+        return '<tr class="mat-mdc-row">' +
+            td('module_name', '<span class="' + (m.commissioned ? 'na' : 'uncommissioned') + '">' + esc(m.name) + '</span>') +
+            td('module_id', esc(m.ip)) +
+            td('network_status', indicator(m.network, NETWORK_CLASS[m.network])) +
+            td('io_status', indicator(m.io, m.io)) +
+            td('last_seen', esc(m.lastSeen)) +
+            td('action', '<button type="button" class="khebab_action">⋮</button>') +
+            '</tr>';
+    }
+
+    function gridCard(m) {
+        return '<div class="card"><strong>' + esc(m.name) + '</strong><br>' + esc(m.ip) + '<br>' +
+            indicator(m.network, NETWORK_CLASS[m.network]) + '</div>';
+    }
+
+    function actionMenu(m) {
+        if (m.commissioned) return ['Edit', 'View Details', 'Decommission', 'Delete'];
+        if (m.network === 'online') return ['View Details', 'Commission', 'Delete'];
+        return ['View Details', 'Delete'];
+    }
+
+    // ---------------------------------------------------------------
+    // Event Logs
+    // ---------------------------------------------------------------
+    var eventFilter = { search: '', today: false, request: 0 };
+
+    function renderEventLogs() {
+        outlet.innerHTML =
+            '<h2>Event Logs Overview</h2>' +
+            '<div class="toolbar">' +
+            '<input type="text" placeholder="Search module name or ip" value="' + esc(eventFilter.search) + '">' +
+            '<button type="button" class="date_filter' + (eventFilter.today ? ' active' : '') + '">Today</button>' +
+            '<button type="button" class="reset">Reset all</button>' +
+            '<button type="button" class="export">Export</button>' +
+            '</div>' +
+            '<table><thead><tr><th>Time</th><th>Module Name</th><th>Module IP</th><th>Event</th></tr></thead>' +
+            '<tbody id="event-rows"></tbody></table>';
+
+        outlet.querySelector('input').addEventListener('input', function (event) {
+            eventFilter.search = event.target.value;
+            task(loadEvents());
+        });
+        outlet.querySelector('button.date_filter').addEventListener('click', function (event) {
+            eventFilter.today = !eventFilter.today;
+            event.currentTarget.classList.toggle('active', eventFilter.today);
+            task(loadEvents());
+        });
+        outlet.querySelector('button.reset').addEventListener('click', function () {
+            eventFilter.search = '';
+            eventFilter.today = false;
+            task(Promise.resolve(renderEventLogs()));
+        });
+
+        return loadEvents();
+    }
+
+    function loadEvents() {
+        var request = ++eventFilter.request;
+
+        return api('/api/events?search=' + encodeURIComponent(eventFilter.search) + '&today=' + eventFilter.today)
+            .then(function (events) {
+                var rows = document.getElementById('event-rows');
+                if (request !== eventFilter.request || !rows) return;
+
+                rows.innerHTML = events.map(function (e) {
+                    return '<tr><td>' + esc(e.time) + '</td><td>' + esc(e.module) + '</td><td>' + esc(e.ip) +
+                        '</td><td>' + esc(e.message) + '</td></tr>';
+                }).join('');
+            });
+    }
+
+    // ---------------------------------------------------------------
+    // Alerts
+    // ---------------------------------------------------------------
+    function renderAlerts() {
+        return api('/api/alerts').then(function (alerts) {
+            outlet.innerHTML =
+                '<app-alerts><h1>Alerts</h1>' +
+                '<div class="toolbar">' + appButton('Export') + '</div>' +
+                '<table><thead><tr><th>Module Name</th><th>Module IP</th><th>Severity</th><th>Message</th></tr></thead><tbody>' +
+                alerts.map(function (a) {
+                    return '<tr><td>' + esc(a.module) + '</td><td>' + esc(a.ip) + '</td><td>' + esc(a.severity) +
+                        '</td><td>' + esc(a.message) + '</td></tr>';
+                }).join('') +
+                '</tbody></table></app-alerts>';
+        });
+    }
+
+    // ---------------------------------------------------------------
+    // System Configuration
+    // ---------------------------------------------------------------
+    function renderSystemConfig() {
+        outlet.innerHTML =
+            '<h1>System Configuration</h1>' +
+            '<section><app-serial-port-config><h2>Serial port</h2>' +
+            '<label>Baud rate <select><option>9600</option><option selected>19200</option><option>38400</option></select></label>' +
+            '</app-serial-port-config></section>' +
+            '<section><app-tag-configuration><h2>Tag configuration</h2><input type="text" placeholder="Tag prefix"></app-tag-configuration></section>' +
+            '<section><app-terminal><h2>Terminal</h2><pre>controller&gt; _</pre></app-terminal></section>' +
+            '<section><app-system-reset><h2>System reset</h2>' + appButton('Reset system') + '</app-system-reset></section>';
+    }
+
+    render();
+})();
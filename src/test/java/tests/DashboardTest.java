@@ -33,7 +33,7 @@ public class DashboardTest extends BaseTest {
 
         ModuleOverviewPage moduleOverview = dashboard.clickViewDeviceList();
 
-        int listTotal = moduleOverview.countAllModules();
+        int listTotal = moduleOverview.countAllModules(ModuleOverviewPage.CountMode.PAGINATOR_VERIFIED);
 
         System.out.println(" Dashboard Total = " + dashboardTotal);
         System.out.println(" Module Overview Total = " + listTotal);
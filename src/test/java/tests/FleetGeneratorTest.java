@@ -0,0 +1,114 @@
+package tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pages.ModuleRow;
+import pages.ModuleRowRule;
+import pages.ModuleRowRules;
+import pages.ModuleValidationEngine;
+import utils.DataUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser-free: the synthetic fleet is reproducible, and its oracle predicts exactly what the
+ * Module Overview rules report when they run over the rows the stand-in renders.
+ */
+public class FleetGeneratorTest {
+
+    private static final long SEED = 42;
+    private static final Duration OFFLINE_THRESHOLD = Duration.ofSeconds(60);
+
+    // every network status present, so the last seen rule has something to report
+    private static final DataUtils.Profile MIXED = new DataUtils.Profile(60, 10, 5, 20, 10, 50);
+
+    @Test
+    @DisplayName("Fleet Generator - Same Seed, Same Fleet")
+    public void testFleetIsReproducible() {
+        List<DataUtils.Module> first = DataUtils.fleet(SEED, 1_000).toList();
+        List<DataUtils.Module> second = DataUtils.fleet(SEED, 1_000).toList();
+        List<DataUtils.Module> otherSeed = DataUtils.fleet(SEED + 1, 1_000).toList();
+
+        Assertions.assertEquals(first, second, " Same seed produced a different fleet!");
+        Assertions.assertNotEquals(first, otherSeed, " Different seeds produced the same fleet!");
+        Assertions.assertEquals(first.get(737), DataUtils.module(SEED, 737, DataUtils.Profile.DEFAULT),
+                " Direct access does not match the streamed module!");
+    }
+
+    @Test
+    @DisplayName("Fleet Generator - Oracle Matches Validators")
+    public void testOracleMatchesValidators() {
+        for (int size : new int[]{10, 10_000, 12_500}) {
+            for (DataUtils.Profile profile : List.of(DataUtils.Profile.DEFAULT, MIXED)) {
+                DataUtils.FleetOracle oracle = DataUtils.oracle(SEED, size, profile, OFFLINE_THRESHOLD);
+
+                ModuleValidationEngine engine = new ModuleValidationEngine(ModuleRowRules.fleetRules());
+                DataUtils.fleet(SEED, size, profile).map(FleetGeneratorTest::asRendered).forEach(engine::accept);
+                Map<String, List<String>> violations = engine.report().violationsByRule();
+
+                String fleet = " size=" + size + " profile=" + profile;
+                Assertions.assertEquals(oracle.duplicateIps(), violations.get("Module IP").size(), "Module IP" + fleet);
+                Assertions.assertEquals(oracle.lastSeenViolations(),
+                        violations.get("Last Seen ↔ Network Status").size(), "Last Seen ↔ Network Status" + fleet);
+                Assertions.assertEquals(oracle.fleetPass(), engine.report().passed(), "validateFleet" + fleet);
+
+                Assertions.assertEquals(oracle.expectedNetworkFilterRows("Degraded"),
+                        matching(SEED, size, profile, ModuleRowRules.networkFilter("degraded")), "Degraded" + fleet);
+                Assertions.assertEquals(oracle.expectedIoFilterRows("Faulty"),
+                        matching(SEED, size, profile, ModuleRowRules.ioFilter("faulty")), "Faulty" + fleet);
+                Assertions.assertEquals(oracle.expectedAllFilterRows("Uncommissioned"),
+                        matching(SEED, size, profile, ModuleRowRules.commissionFilter("Uncommissioned")), "Uncommissioned" + fleet);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Fleet Generator - One Million Modules Streamed")
+    public void testMillionModuleOracle() {
+        long start = System.nanoTime();
+        DataUtils.FleetOracle oracle = DataUtils.oracle(SEED, 1_000_000, DataUtils.Profile.DEFAULT, OFFLINE_THRESHOLD);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(oracle.summary());
+        System.out.println(" Oracle for 1,000,000 modules in " + elapsedMs + " ms");
+
+        int networkTotal = oracle.networkCounts().values().stream().mapToInt(Integer::intValue).sum();
+        Assertions.assertEquals(1_000_000, networkTotal);
+        Assertions.assertEquals(1_000_000 - DataUtils.IP_SPACE, oracle.duplicateIps());
+        Assertions.assertEquals(0, oracle.lastSeenViolations());
+    }
+
+    // -----------------------------
+    // Helpers
+    // -----------------------------
+
+    private static int matching(long seed, int size, DataUtils.Profile profile, ModuleRowRule filter) {
+        return (int) DataUtils.fleet(seed, size, profile)
+                .map(FleetGeneratorTest::asRendered)
+                .filter(row -> filter.check(row) == null)
+                .count();
+    }
+
+    // the row as the stand-in renders it and ModuleOverviewPage extracts it
+    private static ModuleRow asRendered(DataUtils.Module m) {
+        String network = capitalize(m.network());
+        String networkClass = switch (m.network()) {
+            case "online" -> "healthy";
+            case "offline" -> "faulty";
+            default -> m.network();
+        };
+
+        return new ModuleRow(m.index() / 100 + 1, m.index() % 100,
+                m.name(), m.commissioned() ? "na" : "uncommissioned", m.ip(),
+                network, network, "module_status_indicator " + networkClass, "/assets/icons/" + m.network() + ".svg",
+                capitalize(m.io()), "module_status_indicator " + m.io(), "/assets/icons/" + m.io() + ".svg",
+                m.lastSeen(), true);
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
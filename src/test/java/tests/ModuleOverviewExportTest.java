@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import pages.DashboardPage;
+import pages.ModuleExportVerifier;
 import pages.ModuleOverviewPage;
+import pages.ModuleTableSnapshot;
 import utils.DownloadUtils;
 
 import java.io.File;
@@ -28,11 +30,8 @@ public class ModuleOverviewExportTest extends BaseTest {
         System.out.println("➡ Clearing previous downloads...");
         DownloadUtils.clearDownloads();
 
-        // Click Export
-        moduleOverview.clickExport();
-
-        // Wait for downloaded file
-        File downloadedFile = DownloadUtils.waitForDownloadedFile();
+        // Click Export and wait until the browser reports the download complete
+        File downloadedFile = DownloadUtils.downloadModulesExport(driver, moduleOverview::clickExport);
 
         // Validate file exists
         Assertions.assertNotNull(downloadedFile, " No exported file was downloaded!");
@@ -40,4 +39,28 @@ public class ModuleOverviewExportTest extends BaseTest {
 
         System.out.println("✔ Export successful. Downloaded file: " + downloadedFile.getName());
     }
+
+    @Test
+    @DisplayName("Verify exported rows match the Module Overview table")
+    public void testModuleOverviewExportMatchesTable() throws Exception {
+
+        System.out.println("\n=== TEST: Module Overview Export Content ===");
+
+        DashboardPage dashboard = new DashboardPage(driver);
+        ModuleOverviewPage moduleOverview = dashboard.clickViewDeviceList();
+
+        // What the UI shows across all pages
+        ModuleTableSnapshot snapshot = moduleOverview.captureSnapshot();
+
+        DownloadUtils.clearDownloads();
+        File downloadedFile = DownloadUtils.downloadModulesExport(driver, moduleOverview::clickExport);
+
+        Assertions.assertNotNull(downloadedFile, " No exported file was downloaded!");
+
+        ModuleExportVerifier.Result result = ModuleExportVerifier.verify(downloadedFile, snapshot);
+        result.print();
+
+        Assertions.assertTrue(result.matches(),
+                " Export differs from the table in " + result.mismatches().size() + " row(s)!");
+    }
 }
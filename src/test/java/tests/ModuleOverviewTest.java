@@ -285,6 +285,38 @@ public class ModuleOverviewTest extends BaseTest {
         Assertions.assertTrue(result, "} Action column logic validation failed!");
     }
 
+    @Test
+    @DisplayName("Validate all Module Overview columns in a single pagination pass")
+    public void testFleetSinglePassValidation() {
+
+        System.out.println("\n=== TEST: Validate Fleet (single pass) ===");
+
+        new DashboardPage(driver);
+        SidebarPage sidebar = new SidebarPage(driver);
+
+        ModuleOverviewPage modulePage = sidebar.goToModuleOverview();
+
+        boolean result = modulePage.validateFleet();
+
+        Assertions.assertTrue(result, " Fleet validation failed!");
+    }
+
+    @Test
+    @DisplayName("Validate all Module Overview columns with pages scraped by 4 tabs")
+    public void testFleetShardedValidation() {
+
+        System.out.println("\n=== TEST: Validate Fleet (4 tabs) ===");
+
+        new DashboardPage(driver);
+        SidebarPage sidebar = new SidebarPage(driver);
+
+        ModuleOverviewPage modulePage = sidebar.goToModuleOverview();
+
+        boolean result = modulePage.validateFleet(4);
+
+        Assertions.assertTrue(result, " Sharded fleet validation failed!");
+    }
+
 
 
 }
@@ -0,0 +1,159 @@
+package tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import pages.ModuleRow;
+import pages.ModuleRowRule;
+import pages.ModuleRowRules;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Browser-free: the primitive-set Module Name / Module IP uniqueness rules against the previous
+ * HashSet&lt;String&gt; implementation.
+ *
+ * The parity check runs with every mvn test; the allocation microbenchmark is tagged "benchmark"
+ * and only runs with: mvn test -Pbenchmark
+ */
+public class ModuleUniquenessBenchmarkTest {
+
+    private static final int[] FLEET_SIZES = {1_000, 10_000, 100_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int PARITY_FLEET_SIZE = 12_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Uniqueness Checks - Same Duplicates As HashSet")
+    public void testUniquenessChecksMatchHashSet() {
+        // past 10,000 rows the IPs wrap, so the fleet has both unique and duplicate IPs
+        List<ModuleRow> fleet = fleet(PARITY_FLEET_SIZE);
+
+        List<String> duplicateIps = violations(fleet, ModuleRowRules.moduleIPs());
+        Assertions.assertEquals(PARITY_FLEET_SIZE - 10_000, duplicateIps.size(), " Duplicate Module IPs not all reported!");
+        Assertions.assertEquals(violations(fleet, legacyIps()), duplicateIps,
+                " Module IP rule reports different duplicates than the HashSet version!");
+
+        Assertions.assertTrue(violations(fleet, ModuleRowRules.moduleNames()).isEmpty(), " Unique module names reported!");
+        List<ModuleRow> withDuplicates = new ArrayList<>(fleet);
+        withDuplicates.add(fleet.get(42));
+        withDuplicates.add(new ModuleRow(1, 0, " ", "", "0001", "", "", "", "", "", "", "", "", true));
+        Assertions.assertEquals(violations(withDuplicates, legacyNames()), violations(withDuplicates, ModuleRowRules.moduleNames()),
+                " Module Name rule reports different duplicates than the HashSet version!");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Uniqueness Checks - Allocation Per Row")
+    public void testUniquenessCheckAllocationPerRow() {
+
+        System.out.println("\n=== UNIQUENESS CHECK ALLOCATION (bytes/row) ===");
+        System.out.printf(" %-8s | %-12s | %-12s | %-12s | %-12s%n",
+                "Rows", "Name HashSet", "Name Long", "IP HashSet", "IP BitSet");
+
+        for (int size : FLEET_SIZES) {
+            List<ModuleRow> fleet = fleet(size);
+
+            double hashSetNames = bytesPerRow(fleet, ModuleUniquenessBenchmarkTest::legacyNames);
+            double longSetNames = bytesPerRow(fleet, ModuleRowRules::moduleNames);
+            double hashSetIps = bytesPerRow(fleet, ModuleUniquenessBenchmarkTest::legacyIps);
+            double bitSetIps = bytesPerRow(fleet, ModuleRowRules::moduleIPs);
+
+            System.out.printf(" %-8d | %-12.1f | %-12.1f | %-12.1f | %-12.1f%n",
+                    size, hashSetNames, longSetNames, hashSetIps, bitSetIps);
+
+            Assertions.assertEquals(violations(fleet, legacyNames()), violations(fleet, ModuleRowRules.moduleNames()),
+                    " Module Name rule reports different duplicates than the HashSet version!");
+            Assertions.assertEquals(violations(fleet, legacyIps()), violations(fleet, ModuleRowRules.moduleIPs()),
+                    " Module IP rule reports different duplicates than the HashSet version!");
+        }
+    }
+
+    // -----------------------------
+    // Measurement
+    // -----------------------------
+
+    private static double bytesPerRow(List<ModuleRow> fleet, Supplier<ModuleRowRule> ruleFactory) {
+        long allocated = 0;
+
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+
+            ModuleRowRule rule = ruleFactory.get();
+            for (ModuleRow row : fleet) {
+                rule.check(row);
+            }
+
+            allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+        }
+        return (double) allocated / fleet.size();
+    }
+
+    private static List<String> violations(List<ModuleRow> fleet, ModuleRowRule rule) {
+        List<String> violations = new ArrayList<>();
+        for (ModuleRow row : fleet) {
+            String violation = rule.check(row);
+            if (violation != null) violations.add(violation);
+        }
+        return violations;
+    }
+
+    // Names are unique; IPs wrap after 0000-9999 so larger fleets contain duplicates
+    private static List<ModuleRow> fleet(int size) {
+        List<ModuleRow> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new ModuleRow(i / 100 + 1, i % 100, "SD-Module-" + i, "", String.format("%04d", i % 10_000),
+                    "", "", "", "", "", "", "", "", true));
+        }
+        return rows;
+    }
+
+    // -----------------------------
+    // Previous HashSet<String> rules
+    // -----------------------------
+
+    private static ModuleRowRule legacyNames() {
+        Set<String> uniqueNames = new HashSet<>();
+        return legacyRule("Module Name", row -> {
+            String name = row.name().trim();
+            if (name.isEmpty()) return "Empty module name found!";
+            if (!uniqueNames.add(name)) return "Duplicate module name found: " + name;
+            return null;
+        });
+    }
+
+    private static ModuleRowRule legacyIps() {
+        Set<String> uniqueIps = new HashSet<>();
+        return legacyRule("Module IP", row -> {
+            String ip = row.moduleIp().trim();
+            if (ip.equalsIgnoreCase("unknown") || ip.isBlank()) return "Invalid Module IP found: '" + ip + "'";
+            if (!ip.matches("\\d+")) return "Non-numeric Module IP found: " + ip;
+            if (ip.length() != 4) return "Module IP not 4 digits: " + ip;
+            if (!uniqueIps.add(ip)) return "Duplicate Module IP detected: " + ip;
+            return null;
+        });
+    }
+
+    private static ModuleRowRule legacyRule(String name, Function<ModuleRow, String> check) {
+        return new ModuleRowRule() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String check(ModuleRow row) {
+                return check.apply(row);
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.PagePerformance;
+import utils.PerformanceBudget;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Browser-free: samples over their budget are reported, and in fail mode the test fails.
+ * Budgets and mode are passed in, so configured -DperfBudget.* values and parallel tests are left alone.
+ */
+public class PerformanceBudgetTest {
+
+    @Test
+    @DisplayName("Performance Budget - Breaches Per Metric")
+    public void testBreachesPerMetric() {
+        Properties budget = new Properties();
+        budget.setProperty("applyNetworkFilter.tableRenderedMs", "500");
+        budget.setProperty("applyNetworkFilter.longTaskMs", "300");
+        budget.setProperty("applyNetworkFilter.transferBytes", "100000");
+        budget.setProperty("SystemConfiguration.tableRenderedMs", "1000");
+
+        List<String> over = PerformanceBudget.breaches(sample("applyNetworkFilter", 812.0, 120, 250_000), budget);
+        Assertions.assertEquals(List.of(
+                "applyNetworkFilter tableRenderedMs = 812 (budget 500)",
+                "applyNetworkFilter transferBytes = 250000 (budget 100000)"), over);
+
+        Assertions.assertTrue(PerformanceBudget.breaches(sample("applyNetworkFilter", 400.0, 120, 50_000), budget).isEmpty(),
+                " Sample within budget reported as a breach!");
+
+        // no table on the page → held to its last DOM change (renderedMs = 1500)
+        Assertions.assertEquals(1, PerformanceBudget.breaches(sample("System Configuration", null, 0, 0), budget).size(),
+                " Page without a table not checked against its last DOM change!");
+
+        Assertions.assertTrue(PerformanceBudget.breaches(sample("goToNextPage", 5000.0, 5000, 5_000_000), budget).isEmpty(),
+                " Action without a budget reported as a breach!");
+    }
+
+    @Test
+    @DisplayName("Performance Budget - Breach Fails The Test")
+    public void testBreachFailsTest() {
+        Properties budget = new Properties();
+        budget.setProperty("goToNextPage.tableRenderedMs", "1000");
+
+        Assertions.assertTrue(PerformanceBudget.covers("goToNextPage", budget));
+        Assertions.assertFalse(PerformanceBudget.covers("clickExport", budget), " Action without a budget is measured!");
+
+        PerformanceBudget.check(sample("goToNextPage", 400.0, 0, 0), budget);
+        PerformanceBudget.verify("within", PerformanceBudget.Mode.FAIL);
+
+        PerformanceBudget.check(sample("goToNextPage", 2400.0, 0, 0), budget);
+        AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> PerformanceBudget.verify("over", PerformanceBudget.Mode.FAIL));
+        Assertions.assertTrue(error.getMessage().contains("goToNextPage tableRenderedMs = 2400 (budget 1000)"), error.getMessage());
+
+        // warn mode reports, but lets the test pass — and the breach does not leak into the next verify
+        PerformanceBudget.check(sample("goToNextPage", 2400.0, 0, 0), budget);
+        PerformanceBudget.verify("warned", PerformanceBudget.Mode.WARN);
+        PerformanceBudget.verify("next", PerformanceBudget.Mode.FAIL);
+    }
+
+    @Test
+    @DisplayName("Performance Budget - Shipped File Covers Pages And Actions")
+    public void testShippedBudgetFile() {
+        Properties budget = PerformanceBudget.fromClasspath("performance-budget.properties");
+        Assertions.assertFalse(budget.isEmpty(), " performance-budget.properties not on the test classpath!");
+
+        for (String name : List.of("Dashboard", "ModuleOverview", "EventLogs", "Alerts", "SystemConfiguration",
+                "applyNetworkFilter", "goToNextPage")) {
+            for (String metric : PerformanceBudget.METRICS) {
+                Assertions.assertNotNull(budget.getProperty(name + "." + metric), " No budget for " + name + "." + metric);
+            }
+        }
+        Assertions.assertNotNull(budget.getProperty("clickExport.longTaskMs"), " No budget for clickExport");
+
+        for (String key : budget.stringPropertyNames()) {
+            String metric = key.substring(key.lastIndexOf('.') + 1);
+            Assertions.assertTrue(PerformanceBudget.METRICS.contains(metric), " Unknown budget metric: " + key);
+            Assertions.assertTrue(Double.parseDouble(budget.getProperty(key)) > 0, " Budget must be positive: " + key);
+        }
+    }
+
+    // -----------------------------
+    // Helpers
+    // -----------------------------
+
+    private static PagePerformance.Sample sample(String name, Double tableRenderedMs, double longTaskMs, long transferBytes) {
+        return new PagePerformance.Sample(name, 1500, 1500, tableRenderedMs, longTaskMs > 0 ? 1 : 0, longTaskMs,
+                transferBytes, 1, Map.of(), Map.of());
+    }
+}